@@ -24,18 +24,32 @@ import net.kyori.adventure.text.ComponentBuilder;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import net.william278.desertwell.util.UpdateChecker;
 import net.william278.desertwell.util.Version;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
  * Utility for displaying a menu of information about a plugin
+ * <p>
+ * A built menu is an immutable snapshot of its {@link Builder}, including private copies of its {@link Credit}s and
+ * {@link Link}s that are never exposed, and may be rendered concurrently from any thread without locking
  */
 @SuppressWarnings("unused")
 public class AboutMenu {
@@ -46,17 +60,36 @@ public class AboutMenu {
     private final TextColor secondaryColor;
     private final Map<String, List<Credit>> attributions;
     private final List<Link> buttons;
+    private final List<DynamicSection<?>> sections;
+    private final List<Map<String, List<Credit>>> pages;
+    @Nullable
+    private final String pageCommand;
+    private final AtomicReferenceArray<Page> renderedPages;
+    private final Map<Locale, Map<String, String>> translations;
+    private final Map<Locale, Rendered> localized = new ConcurrentHashMap<>();
+    private final Map<Locale, AtomicReferenceArray<Page>> localizedPages = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile Rendered rendered;
+    @Nullable
+    private volatile PlainText plainText;
 
     private AboutMenu(@NotNull Component title, @Nullable Component description, @Nullable Version version,
                       @NotNull TextColor themeColor, @NotNull TextColor secondaryColor,
-                      @NotNull Map<String, List<Credit>> attributions, @NotNull List<Link> buttons) {
+                      @NotNull Map<String, List<Credit>> attributions, @NotNull List<Link> buttons,
+                      @NotNull List<DynamicSection<?>> sections, int creditsPerPage, @Nullable String pageCommand,
+                      @NotNull Map<Locale, Map<String, String>> translations) {
         this.title = title;
         this.description = description;
         this.version = version;
         this.themeColor = themeColor;
         this.secondaryColor = secondaryColor;
-        this.attributions = attributions;
-        this.buttons = buttons;
+        this.attributions = copyAttributions(attributions);
+        this.buttons = copyButtons(buttons);
+        this.sections = copySections(sections);
+        this.pages = paginate(this.attributions, creditsPerPage);
+        this.pageCommand = pageCommand;
+        this.renderedPages = new AtomicReferenceArray<>(pages.size());
+        this.translations = copyTranslations(translations);
     }
 
     @NotNull
@@ -64,54 +97,575 @@ public class AboutMenu {
         return new Builder();
     }
 
+    /**
+     * Get the menu as a {@link TextComponent}. If the menu is paginated, this is the first page.
+     * <p>
+     * The static parts of the menu are rendered on the first call and cached thereafter. If the menu has
+     * {@link DynamicSection}s, only sections whose values have changed are re-rendered on subsequent calls
+     *
+     * @return The menu component
+     */
     @NotNull
     public TextComponent toComponent() {
-        final TextComponent.Builder builder = Component.text()
-                .append(Component.newline())
-                .append(title.colorIfAbsent(themeColor).decorate(TextDecoration.BOLD));
+        return render().component;
+    }
+
+    @NotNull
+    private Rendered render() {
+        final Rendered current = rendered;
+        if (current != null && sections.isEmpty()) {
+            return current;
+        }
+
+        final Rendered updated = update(current, Collections.emptyMap());
+        if (updated != current) {
+            rendered = updated;
+        }
+        return updated;
+    }
+
+    /**
+     * Get the menu as a {@link TextComponent}, translated for a {@link Locale} with the strings set through
+     * {@link Builder#translations(Locale, Map)}. If there are no translations for the locale or its language,
+     * this returns the untranslated {@link #toComponent() menu}.
+     * <p>
+     * Each translated menu is rendered once and cached. Menus are cached by the locale their translations were
+     * resolved for, so there are never more cached menus than locales passed to {@link Builder#translations}
+     *
+     * @param locale The locale to translate the menu for
+     * @return The translated menu component
+     * @since 2.1
+     */
+    @NotNull
+    public TextComponent toComponent(@NotNull Locale locale) {
+        return render(locale).component;
+    }
+
+    @NotNull
+    private Rendered render(@NotNull Locale locale) {
+        final Locale key = resolveLocale(locale);
+        if (key == null) {
+            return render();
+        }
+
+        final Rendered current = localized.get(key);
+        if (current != null && sections.isEmpty()) {
+            return current;
+        }
+
+        final Rendered updated = update(current, translations.get(key));
+        if (updated != current) {
+            localized.put(key, updated);
+        }
+        return updated;
+    }
+
+    // Render dynamic sections, only re-composing the menu if any of them changed
+    @NotNull
+    private Rendered update(@Nullable Rendered current, @NotNull Map<String, String> strings) {
+        final DynamicSection.Part[] parts = new DynamicSection.Part[sections.size()];
+        boolean changed = current == null;
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = sections.get(i).render(current == null ? null : current.sections[i], strings);
+            changed |= current == null || parts[i] != current.sections[i];
+        }
+        if (!changed) {
+            return current;
+        }
+
+        final Component header = current == null ? renderHeader(strings) : current.header;
+        final Component footer = current == null ? Component.text()
+                .append(renderButtons(strings))
+                .append(renderNavigation(1, strings)).build() : current.footer;
+        return new Rendered(header, footer, parts, compose(header, footer, parts));
+    }
+
+    // Find the most specific locale translations are available for, if any
+    @Nullable
+    private Locale resolveLocale(@NotNull Locale locale) {
+        if (translations.containsKey(locale)) {
+            return locale;
+        }
+        final Locale language = new Locale(locale.getLanguage());
+        return translations.containsKey(language) ? language : null;
+    }
+
+    /**
+     * Get a page of the menu as a {@link TextComponent}. The first page is the full menu; subsequent pages show the
+     * title, the remaining credits and the links. {@link DynamicSection}s, including the update notice, are only
+     * shown on the first page. Pages are rendered the first time they are requested and cached thereafter
+     *
+     * @param page The page number, starting from {@code 1}
+     * @return The page component
+     * @throws IllegalArgumentException If the page is out of range
+     * @see Builder#creditsPerPage(int)
+     * @since 2.1
+     */
+    @NotNull
+    public TextComponent toComponent(int page) throws IllegalArgumentException {
+        checkPage(page);
+        if (page == 1) {
+            return toComponent();
+        }
+        return getPage(page).component;
+    }
+
+    /**
+     * Get a page of the menu as a {@link TextComponent}, translated for a {@link Locale}. Pages are cached per
+     * locale, as with {@link #toComponent(Locale)}
+     *
+     * @param locale The locale to translate the page for
+     * @param page   The page number, starting from {@code 1}
+     * @return The translated page component
+     * @throws IllegalArgumentException If the page is out of range
+     * @see #toComponent(int)
+     * @since 2.1
+     */
+    @NotNull
+    public TextComponent toComponent(@NotNull Locale locale, int page) throws IllegalArgumentException {
+        checkPage(page);
+        if (page == 1) {
+            return toComponent(locale);
+        }
+        return getPage(locale, page).component;
+    }
+
+    private void checkPage(int page) throws IllegalArgumentException {
+        if (page < 1 || page > pages.size()) {
+            throw new IllegalArgumentException("Page " + page + " is out of range (1-" + pages.size() + ")");
+        }
+    }
+
+    @NotNull
+    private Page getPage(int page) {
+        return getPage(renderedPages, page, Collections.emptyMap());
+    }
+
+    @NotNull
+    private Page getPage(@NotNull Locale locale, int page) {
+        final Locale key = resolveLocale(locale);
+        if (key == null) {
+            return getPage(page);
+        }
+        return getPage(localizedPages.computeIfAbsent(key, k -> new AtomicReferenceArray<>(pages.size())),
+                page, translations.get(key));
+    }
+
+    // Keep the first page rendered if several threads race, so its serialized forms are shared
+    @NotNull
+    private Page getPage(@NotNull AtomicReferenceArray<Page> cache, int page, @NotNull Map<String, String> strings) {
+        final Page cached = cache.get(page - 1);
+        if (cached != null) {
+            return cached;
+        }
+        final Page rendered = new Page(renderPage(page, strings));
+        return cache.compareAndSet(page - 1, null, rendered) ? rendered : cache.get(page - 1);
+    }
+
+    /**
+     * Get the number of pages in the menu
+     *
+     * @return The page count; {@code 1} if the menu is not paginated
+     * @since 2.1
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Get the menu serialized with an Adventure {@link ComponentSerializer}, such as
+     * {@code GsonComponentSerializer.gson()}, {@code LegacyComponentSerializer.legacySection()} or
+     * {@code PlainTextComponentSerializer.plainText()}.
+     * <p>
+     * The output is computed once per serializer and cached alongside the rendered menu, so the same serialized form
+     * can be sent to every recipient without re-serializing the menu. If the menu has {@link DynamicSection}s, the
+     * output is recomputed only when the rendered menu changes.
+     * <p>
+     * Serializers are cached by identity, so reuse one serializer instance rather than building a new one per call.
+     * Output is cached for at most {@value SerializedCache#MAX_SERIALIZERS} serializers per rendered menu; the menu is
+     * re-serialized on every call with any further serializers
+     *
+     * @param serializer The serializer to use
+     * @param <R>        The serialized type
+     * @return The serialized menu
+     * @since 2.1
+     */
+    @NotNull
+    public <R> R serialize(@NotNull ComponentSerializer<Component, ?, R> serializer) {
+        final Rendered current = render();
+        return current.serialized.get(serializer, current.component);
+    }
+
+    /**
+     * Get the menu translated for a {@link Locale}, as with {@link #toComponent(Locale)}, and serialized with an
+     * Adventure {@link ComponentSerializer}. Output is cached per translated menu, as with
+     * {@link #serialize(ComponentSerializer)}
+     *
+     * @param serializer The serializer to use
+     * @param locale     The locale to translate the menu for
+     * @param <R>        The serialized type
+     * @return The serialized, translated menu
+     * @since 2.1
+     */
+    @NotNull
+    public <R> R serialize(@NotNull ComponentSerializer<Component, ?, R> serializer, @NotNull Locale locale) {
+        final Rendered current = render(locale);
+        return current.serialized.get(serializer, current.component);
+    }
+
+    /**
+     * Get a page of the menu, as with {@link #toComponent(int)}, serialized with an Adventure
+     * {@link ComponentSerializer}. Output is cached per page, as with {@link #serialize(ComponentSerializer)}
+     *
+     * @param serializer The serializer to use
+     * @param page       The page number, starting from {@code 1}
+     * @param <R>        The serialized type
+     * @return The serialized page
+     * @throws IllegalArgumentException If the page is out of range
+     * @since 2.1
+     */
+    @NotNull
+    public <R> R serialize(@NotNull ComponentSerializer<Component, ?, R> serializer, int page)
+            throws IllegalArgumentException {
+        checkPage(page);
+        if (page == 1) {
+            return serialize(serializer);
+        }
+        final Page current = getPage(page);
+        return current.serialized.get(serializer, current.component);
+    }
+
+    /**
+     * Get a page of the menu translated for a {@link Locale}, as with {@link #toComponent(Locale, int)}, serialized
+     * with an Adventure {@link ComponentSerializer}. Output is cached per translated page, as with
+     * {@link #serialize(ComponentSerializer)}
+     *
+     * @param serializer The serializer to use
+     * @param locale     The locale to translate the page for
+     * @param page       The page number, starting from {@code 1}
+     * @param <R>        The serialized type
+     * @return The serialized, translated page
+     * @throws IllegalArgumentException If the page is out of range
+     * @since 2.1
+     */
+    @NotNull
+    public <R> R serialize(@NotNull ComponentSerializer<Component, ?, R> serializer, @NotNull Locale locale, int page)
+            throws IllegalArgumentException {
+        checkPage(page);
+        if (page == 1) {
+            return serialize(serializer, locale);
+        }
+        final Page current = getPage(locale, page);
+        return current.serialized.get(serializer, current.component);
+    }
+
+    /**
+     * Get the plain-text representation of the menu, suitable for console, log or web output.
+     * <p>
+     * This is rendered directly to text without building a component tree, and is cached after the first call.
+     * Link icons and colors, and credit URLs and colors, are not included. The plain-text menu is never paginated
+     *
+     * @return The plain-text menu
+     * @since 2.1
+     */
+    @NotNull
+    public String toPlainString() {
+        final PlainText text = getPlainText();
+        if (sections.isEmpty()) {
+            return text.full;
+        }
+
+        final StringBuilder builder = new StringBuilder(text.full.length() + 64 * sections.size());
+        try {
+            appendTo(builder);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to render menu", e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Append the {@link #toPlainString() plain-text representation} of the menu to an {@link Appendable},
+     * such as a reusable {@link StringBuilder}
+     *
+     * @param output The {@link Appendable} to write to
+     * @throws IOException If the {@link Appendable} throws an exception
+     * @since 2.1
+     */
+    public void appendTo(@NotNull Appendable output) throws IOException {
+        final PlainText text = getPlainText();
+        if (sections.isEmpty()) {
+            output.append(text.full);
+            return;
+        }
+
+        output.append(text.header).append('\n');
+        for (DynamicSection<?> section : sections) {
+            output.append('\n');
+            appendPlain(section.renderPlain(), output);
+        }
+        output.append(text.footer);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+
+    @NotNull
+    private PlainText getPlainText() {
+        PlainText text = plainText;
+        if (text == null) {
+            text = new PlainText(renderPlainHeader(), renderPlainButtons());
+            plainText = text;
+        }
+        return text;
+    }
+
+    @NotNull
+    private String renderPlainHeader() {
+        final StringBuilder builder = new StringBuilder("\n");
+        appendPlain(title, builder);
         if (version != null) {
-            builder.append(Component.text(" | v" + version).color(themeColor));
+            builder.append(" | v").append(version);
+        }
+        if (description != null) {
+            builder.append('\n');
+            appendPlain(description, builder);
+        }
+
+        if (!attributions.isEmpty()) {
+            builder.append('\n');
+        }
+        for (Map.Entry<String, List<Credit>> entry : attributions.entrySet()) {
+            builder.append("\n• ").append(entry.getKey()).append(": ");
+            final List<Credit> credits = entry.getValue();
+            for (int i = 0; i < credits.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                credits.get(i).appendTo(builder);
+            }
+        }
+        return builder.toString();
+    }
+
+    @NotNull
+    private String renderPlainButtons() {
+        if (buttons.isEmpty()) {
+            return "";
+        }
+
+        final StringBuilder builder = new StringBuilder("\n\nLinks: ");
+        for (int i = 0; i < buttons.size(); i++) {
+            if (i > 0) {
+                builder.append("   ");
+            }
+            buttons.get(i).appendTo(builder);
+        }
+        return builder.toString();
+    }
+
+    // Append the plain text of a component and its children, without serializing it. This uses the same flattener
+    // as PlainTextComponentSerializer, so translatable, keybind, score and selector components are written as it would
+    private static void appendPlain(@NotNull Component component, @NotNull StringBuilder output) {
+        ComponentFlattener.basic().flatten(component, output::append);
+    }
+
+    private static void appendPlain(@NotNull Component component, @NotNull Appendable output) throws IOException {
+        if (output instanceof StringBuilder) {
+            appendPlain(component, (StringBuilder) output);
+            return;
         }
+        final StringBuilder builder = new StringBuilder();
+        appendPlain(component, builder);
+        output.append(builder);
+    }
+
+    @NotNull
+    private TextComponent compose(@NotNull Component header, @NotNull Component footer,
+                                  @NotNull DynamicSection.Part[] parts) {
+        final TextComponent.Builder builder = Component.text().color(secondaryColor).append(header);
+        if (parts.length > 0) {
+            builder.append(Component.newline());
+        }
+        for (DynamicSection.Part part : parts) {
+            builder.append(Component.newline()).append(part.component);
+        }
+        return builder.append(footer).build();
+    }
+
+    @NotNull
+    private Component renderHeader(@NotNull Map<String, String> strings) {
+        final TextComponent.Builder builder = Component.text();
+        appendTitle(builder);
 
         // Add description
         if (description != null) {
             builder.append(Component.newline()).append(description.colorIfAbsent(secondaryColor));
         }
 
-        // Add attributions
+        appendAttributions(builder, pages.get(0), strings);
+        return builder.build();
+    }
+
+    @NotNull
+    private TextComponent renderPage(int page, @NotNull Map<String, String> strings) {
+        final TextComponent.Builder builder = Component.text().color(secondaryColor);
+        appendTitle(builder);
+        appendAttributions(builder, pages.get(page - 1), strings);
+        return builder.append(renderButtons(strings))
+                .append(renderNavigation(page, strings)).build();
+    }
+
+    private void appendTitle(@NotNull TextComponent.Builder builder) {
+        builder.append(Component.newline())
+                .append(title.colorIfAbsent(themeColor).decorate(TextDecoration.BOLD));
+        if (version != null) {
+            builder.append(Component.text(" | v" + version).color(themeColor));
+        }
+    }
+
+    private void appendAttributions(@NotNull TextComponent.Builder builder,
+                                    @NotNull Map<String, List<Credit>> attributions,
+                                    @NotNull Map<String, String> strings) {
         if (!attributions.isEmpty()) {
             builder.append(Component.newline());
         }
         for (Map.Entry<String, List<Credit>> entry : attributions.entrySet()) {
             builder.append(Component.newline())
-                    .append(Component.text("• " + entry.getKey() + ": ").color(NamedTextColor.WHITE));
+                    .append(Component.text("• " + translate(strings, entry.getKey()) + ": ")
+                            .color(NamedTextColor.WHITE));
 
-            final AtomicInteger credits = new AtomicInteger();
-            entry.getValue().stream().map(Credit::toComponent).forEach(name -> {
-                if (credits.getAndIncrement() > 0) {
+            final List<Credit> credits = entry.getValue();
+            for (int i = 0; i < credits.size(); i++) {
+                if (i > 0) {
                     builder.append(Component.text(", "));
                 }
-                builder.append(name).color(secondaryColor);
-            });
+                builder.append(credits.get(i).toComponent()).color(secondaryColor);
+            }
         }
+    }
 
-        // Add buttons
-        if (!buttons.isEmpty()) {
-            builder.append(Component.newline()).append(Component.newline())
-                    .append(Component.text("Links: ").color(secondaryColor));
+    @NotNull
+    private Component renderNavigation(int page, @NotNull Map<String, String> strings) {
+        if (pages.size() <= 1) {
+            return Component.empty();
+        }
 
-            final AtomicInteger links = new AtomicInteger();
-            buttons.stream().map(Link::toComponent).forEach(link -> {
-                if (links.getAndIncrement() > 0) {
-                    builder.append(Component.text("   "));
-                }
-                builder.append(link);
-            });
+        // Buttons are only shown if there is a command to run, in which case they are separated from the label
+        final TextComponent.Builder builder = Component.text()
+                .append(Component.newline()).append(Component.newline());
+        if (pageCommand != null && page > 1) {
+            builder.append(renderPageButton(pageCommand, "◀", page - 1, strings)).append(Component.space());
+        }
+        builder.append(Component.text(translate(strings, "Page") + " " + page + "/" + pages.size())
+                .color(secondaryColor));
+        if (pageCommand != null && page < pages.size()) {
+            builder.append(Component.space()).append(renderPageButton(pageCommand, "▶", page + 1, strings));
+        }
+        return builder.build();
+    }
+
+    @NotNull
+    private Component renderPageButton(@NotNull String command, @NotNull String icon, int page,
+                                       @NotNull Map<String, String> strings) {
+        return Component.text("[" + icon + "]", themeColor)
+                .hoverEvent(HoverEvent.showText(Component.text(translate(strings, "Page") + " " + page, themeColor)))
+                .clickEvent(ClickEvent.runCommand(command.replace("%page%", Integer.toString(page))));
+    }
+
+    @NotNull
+    private Component renderButtons(@NotNull Map<String, String> strings) {
+        if (buttons.isEmpty()) {
+            return Component.empty();
         }
 
+        final TextComponent.Builder builder = Component.text()
+                .append(Component.newline()).append(Component.newline())
+                .append(Component.text(translate(strings, "Links") + ": ").color(secondaryColor));
+        for (int i = 0; i < buttons.size(); i++) {
+            if (i > 0) {
+                builder.append(Component.text("   "));
+            }
+            builder.append(buttons.get(i).toComponent(strings));
+        }
         return builder.build();
     }
 
+    @NotNull
+    private static String translate(@NotNull Map<String, String> strings, @NotNull String text) {
+        return strings.getOrDefault(text, text);
+    }
+
+    // Split attributions into pages of at most the given number of credits, continuing categories across pages
+    @NotNull
+    private static List<Map<String, List<Credit>>> paginate(@NotNull Map<String, List<Credit>> attributions,
+                                                           int creditsPerPage) {
+        if (creditsPerPage == 0) {
+            return Collections.singletonList(attributions);
+        }
+
+        final List<Map<String, List<Credit>>> pages = new ArrayList<>();
+        Map<String, List<Credit>> page = new LinkedHashMap<>();
+        int count = 0;
+        for (Map.Entry<String, List<Credit>> entry : attributions.entrySet()) {
+            final List<Credit> credits = entry.getValue();
+            int start = 0;
+            while (start < credits.size()) {
+                if (count == creditsPerPage) {
+                    pages.add(Collections.unmodifiableMap(page));
+                    page = new LinkedHashMap<>();
+                    count = 0;
+                }
+                final int end = Math.min(credits.size(), start + creditsPerPage - count);
+                page.put(entry.getKey(), credits.subList(start, end));
+                count += end - start;
+                start = end;
+            }
+        }
+        if (!page.isEmpty() || pages.isEmpty()) {
+            pages.add(Collections.unmodifiableMap(page));
+        }
+        return Collections.unmodifiableList(pages);
+    }
+
+    // Deep-copy the builder's attributions, so the menu is unaffected by later changes to the builder or its credits
+    @NotNull
+    private static Map<String, List<Credit>> copyAttributions(@NotNull Map<String, List<Credit>> attributions) {
+        final Map<String, List<Credit>> copy = new LinkedHashMap<>();
+        attributions.forEach((category, credits) -> {
+            final List<Credit> creditsCopy = new ArrayList<>(credits.size());
+            credits.forEach(credit -> creditsCopy.add(credit.copy()));
+            copy.put(category, Collections.unmodifiableList(creditsCopy));
+        });
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @NotNull
+    private static Map<Locale, Map<String, String>> copyTranslations(
+            @NotNull Map<Locale, Map<String, String>> translations) {
+        final Map<Locale, Map<String, String>> copy = new HashMap<>();
+        translations.forEach((locale, strings) -> copy.put(
+                locale, Collections.unmodifiableMap(new HashMap<>(strings))));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @NotNull
+    private static List<DynamicSection<?>> copySections(@NotNull List<DynamicSection<?>> sections) {
+        final List<DynamicSection<?>> copy = new ArrayList<>(sections.size());
+        sections.forEach(section -> copy.add(section.copy()));
+        return Collections.unmodifiableList(copy);
+    }
+
+    @NotNull
+    private static List<Link> copyButtons(@NotNull List<Link> buttons) {
+        final List<Link> copy = new ArrayList<>(buttons.size());
+        buttons.forEach(link -> copy.add(link.copy()));
+        return Collections.unmodifiableList(copy);
+    }
+
     public static class Builder {
         private Component title;
         private Component description;
@@ -120,6 +674,12 @@ public class AboutMenu {
         private TextColor secondaryColor = TextColor.color(0xAAAAAA);
         private final Map<String, List<Credit>> attributions = new LinkedHashMap<>();
         private final List<Link> buttons = new ArrayList<>();
+        private final List<DynamicSection<?>> sections = new ArrayList<>();
+        private int creditsPerPage;
+        private String pageCommand;
+        private final Map<Locale, Map<String, String>> translations = new HashMap<>();
+        private UpdateChecker updateChecker;
+        private CompletableFuture<UpdateChecker.Completed> updateCheck;
 
         private Builder() {
         }
@@ -211,6 +771,112 @@ public class AboutMenu {
             return this;
         }
 
+        /**
+         * Add dynamic sections to the menu, displayed on their own lines beneath the attributions.
+         * Unlike the rest of the menu, these are re-rendered when their values change
+         *
+         * @param sections {@link DynamicSection}s to add
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder sections(@NotNull DynamicSection<?>... sections) {
+            this.sections.addAll(Arrays.asList(sections));
+            return this;
+        }
+
+        /**
+         * Split the menu's credits across pages of at most the given number of credits. Pages are rendered lazily
+         * with {@link AboutMenu#toComponent(int)}. By default, the menu is not paginated
+         *
+         * @param creditsPerPage The maximum number of credits per page, or {@code 0} to disable pagination
+         * @return The {@link Builder}
+         * @throws IllegalArgumentException If the number of credits per page is negative
+         * @since 2.1
+         */
+        @NotNull
+        public Builder creditsPerPage(int creditsPerPage) throws IllegalArgumentException {
+            if (creditsPerPage < 0) {
+                throw new IllegalArgumentException("Credits per page must not be negative: " + creditsPerPage);
+            }
+            this.creditsPerPage = creditsPerPage;
+            return this;
+        }
+
+        /**
+         * Set the command run when a page navigation button is clicked, where {@code %page%} is replaced with the
+         * page number (e.g. {@code "/example about %page%"}). If not set, navigation buttons are not shown
+         *
+         * @param pageCommand The page navigation command
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder pageCommand(@NotNull String pageCommand) {
+            this.pageCommand = pageCommand;
+            return this;
+        }
+
+        /**
+         * Add translations of the menu's text for a locale, used by {@link AboutMenu#toComponent(Locale)} and
+         * {@link AboutMenu#toComponent(Locale, int)}.
+         * <p>
+         * Translations map the English text shown on the menu to the translated text. Credit category names,
+         * link text, the {@code "Links"} and {@code "Page"} labels, and the update notice labels
+         * ({@code "Checking for updates…"}, {@code "Up to date"}, {@code "Update available"} and
+         * {@code "Unable to check for updates"}) can be translated; untranslated text is shown as-is.
+         * Translations for a language-only locale (e.g. {@code de}) apply to all its countries
+         *
+         * @param locale       The locale the translations are for
+         * @param translations Map of English text to translated text
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder translations(@NotNull Locale locale, @NotNull Map<String, String> translations) {
+            this.translations.computeIfAbsent(locale, key -> new HashMap<>()).putAll(translations);
+            return this;
+        }
+
+        /**
+         * Show whether the resource is up to date on the menu, using an {@link UpdateChecker}.
+         * <p>
+         * The check is started when the menu is built and never waited on; until it completes, the menu shows
+         * a placeholder, after which it shows the cached result. If the check fails, the menu says so rather than
+         * showing the resource as up to date.
+         * <p>
+         * Every call to {@link #build()} starts a new check. To share one check between menus that are rebuilt, such
+         * as those reloaded by an {@link AboutMenuLoader}, pass its result to {@link #updateCheck(CompletableFuture)}
+         * instead. This replaces any check set with {@link #updateCheck(CompletableFuture)}
+         *
+         * @param updateChecker The {@link UpdateChecker} to check for updates with
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder updateChecker(@NotNull UpdateChecker updateChecker) {
+            this.updateChecker = updateChecker;
+            this.updateCheck = null;
+            return this;
+        }
+
+        /**
+         * Show whether the resource is up to date on the menu, using the result of an update check that has already
+         * been started with {@link UpdateChecker#check()}. Unlike {@link #updateChecker(UpdateChecker)}, building the
+         * menu does not start a new check, so the same result can be shown on every rebuilt menu, e.g. from an
+         * {@link AboutMenuLoader} customizer. This replaces any checker set with {@link #updateChecker(UpdateChecker)}
+         *
+         * @param updateCheck The pending or completed update check
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder updateCheck(@NotNull CompletableFuture<UpdateChecker.Completed> updateCheck) {
+            this.updateCheck = updateCheck;
+            this.updateChecker = null;
+            return this;
+        }
+
         /**
          * Build the {@link AboutMenu}
          *
@@ -221,7 +887,34 @@ public class AboutMenu {
             if (title == null) {
                 throw new IllegalStateException("Title must be set");
             }
-            return new AboutMenu(title, description, version, themeColor, secondaryColor, attributions, buttons);
+            final List<DynamicSection<?>> menuSections = new ArrayList<>(sections);
+            final CompletableFuture<UpdateChecker.Completed> check = updateChecker != null
+                    ? updateChecker.check() : updateCheck;
+            if (check != null) {
+                menuSections.add(0, createUpdateSection(check, themeColor, secondaryColor));
+            }
+            return new AboutMenu(title, description, version, themeColor, secondaryColor, attributions, buttons,
+                    menuSections, creditsPerPage, pageCommand, translations);
+        }
+
+        // Section polling the update check without blocking; the Completed result is re-used once available
+        @NotNull
+        private static DynamicSection<UpdateChecker.Completed> createUpdateSection(
+                @NotNull CompletableFuture<UpdateChecker.Completed> check,
+                @NotNull TextColor themeColor, @NotNull TextColor secondaryColor) {
+            return new DynamicSection<>(() -> check.getNow(null), (completed, translator) -> {
+                if (completed == null) {
+                    return Component.text(translator.apply("Checking for updates…"), secondaryColor);
+                }
+                if (!completed.isSuccessful()) {
+                    return Component.text(translator.apply("Unable to check for updates"), secondaryColor);
+                }
+                if (completed.isUpToDate()) {
+                    return Component.text(translator.apply("Up to date"), themeColor);
+                }
+                return Component.text(translator.apply("Update available") + ": ", secondaryColor)
+                        .append(Component.text("v" + completed.getLatestVersion(), themeColor));
+            });
         }
 
     }
@@ -282,9 +975,27 @@ public class AboutMenu {
             return this;
         }
 
+        @NotNull
+        private Link copy() {
+            final Link copy = new Link(url);
+            copy.text = text;
+            copy.color = color;
+            copy.icon = icon;
+            return copy;
+        }
+
+        private void appendTo(@NotNull StringBuilder builder) {
+            builder.append(text).append(" (").append(url).append(')');
+        }
+
         @NotNull
         public Component toComponent() {
-            return Component.text("[" + (icon == null ? "" : icon) + " " + text + "]", color)
+            return toComponent(Collections.emptyMap());
+        }
+
+        @NotNull
+        private Component toComponent(@NotNull Map<String, String> strings) {
+            return Component.text("[" + (icon == null ? "" : icon) + " " + translate(strings, text) + "]", color)
                     .clickEvent(ClickEvent.openUrl(url));
         }
 
@@ -352,6 +1063,22 @@ public class AboutMenu {
             return this;
         }
 
+        @NotNull
+        private Credit copy() {
+            final Credit copy = new Credit(name);
+            copy.description = description;
+            copy.url = url;
+            copy.color = color;
+            return copy;
+        }
+
+        private void appendTo(@NotNull StringBuilder builder) {
+            builder.append(name);
+            if (description != null) {
+                builder.append(" (").append(description).append(')');
+            }
+        }
+
         @NotNull
         public Component toComponent() {
             final ComponentBuilder<TextComponent, TextComponent.Builder> builder = Component.text().content(name);
@@ -366,4 +1093,194 @@ public class AboutMenu {
 
     }
 
+    /**
+     * Represents a section of the menu displaying live data, such as update status or uptime.
+     * <p>
+     * The section value is polled from a supplier at most once per refresh interval, and is only re-rendered
+     * when the polled value has changed.
+     * <p>
+     * Each menu built with a section takes its own copy of it, so changing the refresh interval after the menu is
+     * built has no effect on that menu, and menus built from one section poll and render it independently.
+     * <p>
+     * Menus may be rendered from several threads at once, so the supplier and renderer must be thread-safe: they
+     * can be called concurrently, and the renderer may be called more than once for the same value, e.g. once per
+     * locale the menu is translated for
+     *
+     * @param <T> The type of value displayed by the section
+     * @since 2.1
+     */
+    public static class DynamicSection<T> {
+        private final Supplier<T> supplier;
+        private final BiFunction<T, UnaryOperator<String>, ? extends Component> renderer;
+        private volatile long refreshIntervalNanos;
+        @Nullable
+        private volatile State<T> state;
+        @Nullable
+        private volatile Part plain;
+
+        // The renderer is passed a function translating menu text for the locale being rendered
+        private DynamicSection(@NotNull Supplier<T> supplier,
+                               @NotNull BiFunction<T, UnaryOperator<String>, ? extends Component> renderer) {
+            this.supplier = supplier;
+            this.renderer = renderer;
+        }
+
+        /**
+         * Create a dynamic section from a value supplier and a function rendering the value
+         *
+         * @param supplier Supplier of the current value
+         * @param renderer Function rendering the value as a component
+         * @param <T>      The type of value displayed by the section
+         * @return The {@link DynamicSection}
+         */
+        @NotNull
+        public static <T> DynamicSection<T> of(@NotNull Supplier<T> supplier,
+                                               @NotNull Function<T, ? extends Component> renderer) {
+            return new DynamicSection<>(supplier, (value, translator) -> renderer.apply(value));
+        }
+
+        /**
+         * Create a dynamic section from a component supplier
+         *
+         * @param supplier Supplier of the current component
+         * @return The {@link DynamicSection}
+         */
+        @NotNull
+        public static DynamicSection<Component> of(@NotNull Supplier<Component> supplier) {
+            return new DynamicSection<>(supplier, (component, translator) -> component);
+        }
+
+        /**
+         * Set the minimum interval between polls of the value supplier. By default, the supplier is polled every
+         * time the menu is rendered. Menus already built with this section keep the interval they were built with
+         *
+         * @param refreshInterval The refresh interval
+         * @return The {@link DynamicSection}
+         */
+        @NotNull
+        public DynamicSection<T> refreshInterval(@NotNull Duration refreshInterval) {
+            this.refreshIntervalNanos = refreshInterval.toNanos();
+            return this;
+        }
+
+        // Copy the section for a built menu, sharing the supplier and renderer but not the polled state
+        @NotNull
+        private DynamicSection<T> copy() {
+            final DynamicSection<T> copy = new DynamicSection<>(supplier, renderer);
+            copy.refreshIntervalNanos = refreshIntervalNanos;
+            return copy;
+        }
+
+        // Poll the value, returning the previous part if it is unchanged so callers can skip re-composing the menu.
+        // Each rendering of the menu (untranslated, or per locale) keeps its own previous parts
+        @NotNull
+        private Part render(@Nullable Part previous, @NotNull Map<String, String> strings) {
+            final T value = poll();
+            if (previous != null && Objects.equals(value, previous.value)) {
+                return previous;
+            }
+            return new Part(value, renderer.apply(value, text -> translate(strings, text)));
+        }
+
+        @NotNull
+        private Component renderPlain() {
+            final Part part = render(plain, Collections.emptyMap());
+            plain = part;
+            return part.component;
+        }
+
+        private T poll() {
+            final long now = System.nanoTime();
+            final State<T> current = state;
+            if (current != null && now - current.refreshedAt < refreshIntervalNanos) {
+                return current.value;
+            }
+
+            final T value = supplier.get();
+            state = new State<>(value, now);
+            return value;
+        }
+
+        private static final class State<T> {
+            private final T value;
+            private final long refreshedAt;
+
+            private State(T value, long refreshedAt) {
+                this.value = value;
+                this.refreshedAt = refreshedAt;
+            }
+        }
+
+        private static final class Part {
+            @Nullable
+            private final Object value;
+            private final Component component;
+
+            private Part(@Nullable Object value, @NotNull Component component) {
+                this.value = value;
+                this.component = component;
+            }
+        }
+
+    }
+
+    // Snapshot of the rendered menu, replaced as a whole when a dynamic section changes
+    private static final class Rendered {
+        private final Component header;
+        private final Component footer;
+        private final DynamicSection.Part[] sections;
+        private final TextComponent component;
+        private final SerializedCache serialized = new SerializedCache();
+
+        private Rendered(@NotNull Component header, @NotNull Component footer,
+                         @NotNull DynamicSection.Part[] sections, @NotNull TextComponent component) {
+            this.header = header;
+            this.footer = footer;
+            this.sections = sections;
+            this.component = component;
+        }
+    }
+
+    private static final class PlainText {
+        private final String header;
+        private final String footer;
+        private final String full;
+
+        private PlainText(@NotNull String header, @NotNull String footer) {
+            this.header = header;
+            this.footer = footer;
+            this.full = header + footer;
+        }
+    }
+
+    // A rendered page after the first, which has no dynamic sections and so never changes
+    private static final class Page {
+        private final TextComponent component;
+        private final SerializedCache serialized = new SerializedCache();
+
+        private Page(@NotNull TextComponent component) {
+            this.component = component;
+        }
+    }
+
+    // Serialized forms of one rendered component, discarded along with it
+    private static final class SerializedCache {
+        private static final int MAX_SERIALIZERS = 8;
+        private final Map<ComponentSerializer<Component, ?, ?>, Object> outputs = new ConcurrentHashMap<>();
+
+        @NotNull
+        @SuppressWarnings("unchecked")
+        private <R> R get(@NotNull ComponentSerializer<Component, ?, R> serializer, @NotNull TextComponent component) {
+            final Object cached = outputs.get(serializer);
+            if (cached != null) {
+                return (R) cached;
+            }
+            final R output = serializer.serialize(component);
+            if (outputs.size() < MAX_SERIALIZERS) {
+                outputs.putIfAbsent(serializer, output);
+            }
+            return output;
+        }
+    }
+
 }
@@ -0,0 +1,333 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.about;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.william278.desertwell.util.Version;
+import org.jetbrains.annotations.NotNull;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Utility for loading {@link AboutMenu}s from JSON definition files, optionally reloading them when the file changes.
+ * <p>
+ * A definition looks like the following; every field except {@code title} is optional:
+ * <pre>{@code
+ * {
+ *   "title": "Example",
+ *   "description": "An example plugin",
+ *   "version": "1.0.0",
+ *   "theme_color": "#00FB9A",
+ *   "secondary_color": "#AAAAAA",
+ *   "credits": [
+ *     {"category": "Author", "credits": [{"name": "William278", "description": "Click to visit website",
+ *                                         "url": "https://william278.net", "color": "#AAAAAA"}]},
+ *     {"category": "Contributors", "credits": ["Contributor 1", "Contributor 2"]}
+ *   ],
+ *   "buttons": [{"url": "https://william278.net/docs", "text": "Docs", "icon": "⛏", "color": "#00FB9A"}],
+ *   "credits_per_page": 10,
+ *   "page_command": "/example about %page%",
+ *   "translations": {"de": {"Author": "Autor", "Docs": "Dokumentation"}}
+ * }
+ * }</pre>
+ *
+ * @since 2.1
+ */
+@SuppressWarnings("unused")
+public final class AboutMenuLoader implements AutoCloseable {
+    // Editors often truncate a file before writing it, so bursts of events are coalesced before reloading
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final Path file;
+    private final Consumer<AboutMenu.Builder> customizer;
+    private final Consumer<Exception> errorHandler;
+    private final WatchService watchService;
+    private volatile AboutMenu menu;
+
+    private AboutMenuLoader(@NotNull Path file, @NotNull Consumer<AboutMenu.Builder> customizer,
+                            @NotNull Consumer<Exception> errorHandler) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.customizer = customizer;
+        this.errorHandler = errorHandler;
+
+        // Watch before the initial load, so a change made while loading is picked up by the watch thread
+        final Path directory = this.file.getParent();
+        this.watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            this.menu = load();
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        final Thread thread = new Thread(this::watchLoop, "DesertWell-AboutMenuLoader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Load a menu from a definition file, then watch the file and reload the menu off-thread when it changes.
+     * Exceptions thrown while reloading are logged, and the previous menu is kept
+     *
+     * @param file The definition file
+     * @return The {@link AboutMenuLoader}
+     * @throws IOException If the file could not be read or watched
+     */
+    @NotNull
+    public static AboutMenuLoader watch(@NotNull Path file) throws IOException {
+        return watch(file, builder -> {
+        }, e -> Logger.getLogger(AboutMenuLoader.class.getName())
+                .log(Level.WARNING, "Failed to reload menu definition " + file, e));
+    }
+
+    /**
+     * Load a menu from a definition file, then watch the file and reload the menu off-thread when it changes.
+     * Bursts of changes are coalesced and reloaded once the file has been quiet for a short while, so a file
+     * being written is not read half-way through
+     *
+     * @param file         The definition file
+     * @param customizer   Consumer applied to the {@link AboutMenu.Builder} on every load, before the menu is built,
+     *                     e.g. to add {@link AboutMenu.DynamicSection}s
+     * @param errorHandler Consumer accepting exceptions thrown while reloading; the previous menu is kept
+     * @return The {@link AboutMenuLoader}
+     * @throws IOException If the file could not be read or watched
+     */
+    @NotNull
+    public static AboutMenuLoader watch(@NotNull Path file, @NotNull Consumer<AboutMenu.Builder> customizer,
+                                        @NotNull Consumer<Exception> errorHandler) throws IOException {
+        return new AboutMenuLoader(file, customizer, errorHandler);
+    }
+
+    /**
+     * Read a menu definition file into an {@link AboutMenu.Builder}
+     *
+     * @param file The definition file
+     * @return The {@link AboutMenu.Builder}
+     * @throws IOException              If the file could not be read
+     * @throws IllegalArgumentException If the definition is invalid
+     */
+    @NotNull
+    public static AboutMenu.Builder read(@NotNull Path file) throws IOException, IllegalArgumentException {
+        final String definition = Files.readString(file, StandardCharsets.UTF_8);
+        try {
+            return parse(new JSONObject(definition));
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Invalid menu definition in " + file, e);
+        }
+    }
+
+    /**
+     * Parse a menu definition into an {@link AboutMenu.Builder}
+     *
+     * @param definition The menu definition
+     * @return The {@link AboutMenu.Builder}
+     * @throws IllegalArgumentException If the definition is invalid
+     */
+    @NotNull
+    public static AboutMenu.Builder parse(@NotNull JSONObject definition) throws IllegalArgumentException {
+        try {
+            return parseDefinition(definition);
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Invalid menu definition", e);
+        }
+    }
+
+    /**
+     * Get the most recently loaded menu. This never blocks, and never returns a partially loaded menu
+     *
+     * @return The current {@link AboutMenu}
+     */
+    @NotNull
+    public AboutMenu getMenu() {
+        return menu;
+    }
+
+    /**
+     * Stop watching the definition file for changes
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    @NotNull
+    private static AboutMenu.Builder parseDefinition(@NotNull JSONObject definition) {
+        if (!definition.has("title")) {
+            throw new IllegalArgumentException("Menu definition is missing a title");
+        }
+        final AboutMenu.Builder builder = AboutMenu.builder()
+                .title(Component.text(definition.getString("title")));
+        if (definition.has("description")) {
+            builder.description(Component.text(definition.getString("description")));
+        }
+        if (definition.has("version")) {
+            builder.version(Version.fromString(definition.getString("version")));
+        }
+        if (definition.has("theme_color")) {
+            builder.themeColor(parseColor(definition.getString("theme_color")));
+        }
+        if (definition.has("secondary_color")) {
+            builder.secondaryColor(parseColor(definition.getString("secondary_color")));
+        }
+
+        // Credits are an array of categories, as JSON objects do not preserve key order
+        final JSONArray categories = definition.optJSONArray("credits");
+        for (int i = 0; categories != null && i < categories.length(); i++) {
+            final JSONObject category = categories.getJSONObject(i);
+            final JSONArray credits = category.getJSONArray("credits");
+            final AboutMenu.Credit[] parsed = new AboutMenu.Credit[credits.length()];
+            for (int j = 0; j < parsed.length; j++) {
+                parsed[j] = parseCredit(credits.get(j));
+            }
+            builder.credits(category.getString("category"), parsed);
+        }
+
+        final JSONArray buttons = definition.optJSONArray("buttons");
+        for (int i = 0; buttons != null && i < buttons.length(); i++) {
+            builder.buttons(parseLink(buttons.getJSONObject(i)));
+        }
+
+        if (definition.has("credits_per_page")) {
+            builder.creditsPerPage(definition.getInt("credits_per_page"));
+        }
+        if (definition.has("page_command")) {
+            builder.pageCommand(definition.getString("page_command"));
+        }
+
+        final JSONObject translations = definition.optJSONObject("translations");
+        if (translations != null) {
+            for (String locale : translations.keySet()) {
+                final JSONObject strings = translations.getJSONObject(locale);
+                final Map<String, String> parsed = new HashMap<>();
+                for (String key : strings.keySet()) {
+                    parsed.put(key, strings.getString(key));
+                }
+                builder.translations(Locale.forLanguageTag(locale.replace('_', '-')), parsed);
+            }
+        }
+        return builder;
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                if (!isChanged(watchService.take())) {
+                    continue;
+                }
+
+                // Wait until no further events arrive within the debounce period, then reload once
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged(key);
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+        }
+    }
+
+    // Consume a key's events and reset it, returning whether any of them concerned the definition file
+    private boolean isChanged(@NotNull WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                       || file.getFileName().equals(event.context());
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        try {
+            menu = load();
+        } catch (IOException | RuntimeException e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    // Build and pre-render the menu before it is published, so readers never pay for the first render
+    @NotNull
+    private AboutMenu load() throws IOException {
+        final AboutMenu.Builder builder = read(file);
+        customizer.accept(builder);
+        final AboutMenu loaded = builder.build();
+        loaded.toComponent();
+        return loaded;
+    }
+
+    @NotNull
+    private static AboutMenu.Credit parseCredit(@NotNull Object credit) {
+        if (!(credit instanceof JSONObject)) {
+            return AboutMenu.Credit.of(credit.toString());
+        }
+
+        final JSONObject object = (JSONObject) credit;
+        final AboutMenu.Credit parsed = AboutMenu.Credit.of(object.getString("name"))
+                .description(object.optString("description", null))
+                .url(object.optString("url", null));
+        if (object.has("color")) {
+            parsed.color(parseColor(object.getString("color")));
+        }
+        return parsed;
+    }
+
+    @NotNull
+    private static AboutMenu.Link parseLink(@NotNull JSONObject link) {
+        final AboutMenu.Link parsed = AboutMenu.Link.of(link.getString("url"));
+        if (link.has("text")) {
+            parsed.text(link.getString("text"));
+        }
+        if (link.has("icon")) {
+            parsed.icon(link.getString("icon"));
+        }
+        if (link.has("color")) {
+            parsed.color(parseColor(link.getString("color")));
+        }
+        return parsed;
+    }
+
+    @NotNull
+    private static TextColor parseColor(@NotNull String color) throws IllegalArgumentException {
+        final TextColor parsed = TextColor.fromHexString(color);
+        if (parsed == null) {
+            throw new IllegalArgumentException("Invalid color: " + color);
+        }
+        return parsed;
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Utilities for working with the exceptions thrown by {@link ThrowingConsumer}s, {@link ThrowingFunction}s,
+ * {@link ThrowingSupplier}s and {@link ThrowingRunnable}s
+ *
+ * @since 2.1
+ */
+@SuppressWarnings("unused")
+public final class Exceptions {
+
+    private Exceptions() {
+    }
+
+    /**
+     * Throw any exception, even if it is checked, without wrapping it or declaring it
+     *
+     * @param throwable The exception to throw
+     * @return Never returns; declared so callers can write {@code throw Exceptions.sneakyThrow(e)}
+     */
+    @NotNull
+    public static RuntimeException sneakyThrow(@NotNull Throwable throwable) {
+        throw Exceptions.<RuntimeException>castAndThrow(throwable);
+    }
+
+    /**
+     * Get an exception that can be thrown unchecked: unchecked exceptions are returned as-is, errors are thrown,
+     * and checked exceptions are wrapped in a stackless {@link WrappedException}
+     *
+     * @param throwable The exception to propagate
+     * @return The unchecked exception to throw
+     */
+    @NotNull
+    public static RuntimeException propagate(@NotNull Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new WrappedException(throwable);
+    }
+
+    /**
+     * Strip any {@link WrappedException}, {@link CompletionException} and {@link ExecutionException} layers
+     * from an exception
+     *
+     * @param throwable The exception to unwrap
+     * @return The underlying exception
+     */
+    @NotNull
+    public static Throwable unwrap(@NotNull Throwable throwable) {
+        Throwable unwrapped = throwable;
+        while ((unwrapped instanceof WrappedException || unwrapped instanceof CompletionException
+                || unwrapped instanceof ExecutionException) && unwrapped.getCause() != null) {
+            unwrapped = unwrapped.getCause();
+        }
+        return unwrapped;
+    }
+
+    /**
+     * Apply a function to every element, collecting failures instead of aborting on the first one.
+     * <p>
+     * {@link Error}s are not collected, and abort the loop. If an element fails with an
+     * {@link InterruptedException}, the interrupt flag of the current thread is restored and the loop carries on
+     *
+     * @param elements The elements to apply the function to
+     * @param function The function to apply
+     * @param <T>      The type of the elements
+     * @param <R>      The type of the results
+     * @return The {@link Outcome} for each element, in iteration order; one per element, even for duplicates
+     */
+    @NotNull
+    public static <T, R> List<Outcome<T, R>> applyAll(@NotNull Iterable<? extends T> elements,
+                                                      @NotNull ThrowingFunction<? super T, ? extends R> function) {
+        final List<Outcome<T, R>> outcomes = new ArrayList<>();
+        for (T element : elements) {
+            try {
+                outcomes.add(new Outcome<>(element, function.applyThrows(element), null));
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                outcomes.add(new Outcome<>(element, null, handle(e)));
+            }
+        }
+        return Collections.unmodifiableList(outcomes);
+    }
+
+    /**
+     * Accept every element with a consumer, collecting failures instead of aborting on the first one, as with
+     * {@link #applyAll(Iterable, ThrowingFunction)}
+     *
+     * @param elements The elements to accept
+     * @param consumer The consumer to accept them with
+     * @param <T>      The type of the elements
+     * @return The {@link Outcome} for each element, in iteration order; one per element, even for duplicates
+     */
+    @NotNull
+    public static <T> List<Outcome<T, Void>> acceptAll(@NotNull Iterable<? extends T> elements,
+                                                       @NotNull ThrowingConsumer<? super T> consumer) {
+        return applyAll(elements, element -> {
+            consumer.acceptThrows(element);
+            return null;
+        });
+    }
+
+    /**
+     * Run a {@link ThrowingSupplier} asynchronously. Unlike {@link CompletableFuture#supplyAsync}, exceptions
+     * complete the future as-is, so they are wrapped in at most one {@link CompletionException}.
+     * <p>
+     * {@link Error}s complete the future too, but are then rethrown to the executor. If the supplier fails with an
+     * {@link InterruptedException}, the interrupt flag of the executing thread is restored
+     *
+     * @param supplier The supplier to run
+     * @param executor The executor to run it on
+     * @param <T>      The type of the result
+     * @return A {@link CompletableFuture} completed with the result
+     */
+    @NotNull
+    public static <T> CompletableFuture<T> supplyAsync(@NotNull ThrowingSupplier<T> supplier,
+                                                       @NotNull Executor executor) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.getThrows());
+            } catch (final Error e) {
+                future.completeExceptionally(e);
+                throw e;
+            } catch (final Throwable e) {
+                future.completeExceptionally(handle(e));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Run a {@link ThrowingRunnable} asynchronously. Unlike {@link CompletableFuture#runAsync}, exceptions
+     * complete the future as-is, so they are wrapped in at most one {@link CompletionException}
+     *
+     * @param runnable The task to run
+     * @param executor The executor to run it on
+     * @return A {@link CompletableFuture} completed when the task finishes
+     */
+    @NotNull
+    public static CompletableFuture<Void> runAsync(@NotNull ThrowingRunnable runnable, @NotNull Executor executor) {
+        return supplyAsync(() -> {
+            runnable.runThrows();
+            return null;
+        }, executor);
+    }
+
+    // Unwrap a failure, restoring the interrupt flag if the failure was an interrupt
+    @NotNull
+    private static Throwable handle(@NotNull Throwable throwable) {
+        final Throwable failure = unwrap(throwable);
+        if (failure instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E castAndThrow(@NotNull Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    /**
+     * The outcome of applying a function to a single element: either its result, or the exception it failed with
+     *
+     * @param <T> The type of the element
+     * @param <R> The type of the result
+     */
+    public static final class Outcome<T, R> {
+        private final T element;
+        @Nullable
+        private final R result;
+        @Nullable
+        private final Throwable failure;
+
+        private Outcome(T element, @Nullable R result, @Nullable Throwable failure) {
+            this.element = element;
+            this.result = result;
+            this.failure = failure;
+        }
+
+        /**
+         * Get the element the function was applied to
+         *
+         * @return The element
+         */
+        public T getElement() {
+            return element;
+        }
+
+        /**
+         * Get the result of the function, if it succeeded
+         *
+         * @return The result; {@code null} if the function failed, or if it returned {@code null}
+         */
+        @Nullable
+        public R getResult() {
+            return result;
+        }
+
+        /**
+         * Get the exception the function failed with, if it failed
+         *
+         * @return The unwrapped exception; {@code null} if the function succeeded
+         */
+        @Nullable
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * A cache of latest version strings, as returned by {@link UpdateChecker.Endpoint#query(String, String)} after
+ * parsing the endpoint response, shared between processes on the same host through a directory of small,
+ * memory-mapped files. Fetches are coordinated with file locks so that only one process queries an endpoint for a
+ * given resource per cache duration; every other process reads the cached version instead.
+ * <p>
+ * Failed fetches are cached too, for at most {@link #FAILURE_DURATION}, so that an unavailable endpoint is not
+ * retried by every process in turn. If an expired version is cached, locks are only waited on for
+ * {@link #STALE_LOCK_TIMEOUT} before returning it, rather than blocking behind a slow fetch in another thread or
+ * process. Otherwise, there is nothing to fall back to, so locks are waited on for as long as a fetch can take.
+ *
+ * @since 2.1
+ */
+final class SharedUpdateCache {
+
+    // Cache file layout: magic (int), CRC32 of the remaining bytes (int), fetch timestamp in epoch millis (long),
+    // status (byte), response length (int), UTF-8 response; or the failure message, if the status is STATUS_FAILED
+    private static final int MAGIC = 0x44574332; // "DWC2"
+    private static final int CHECKSUM_OFFSET = Integer.BYTES * 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final byte STATUS_OK = 0;
+    private static final byte STATUS_FAILED = 1;
+    private static final String FILE_EXTENSION = ".cache";
+
+    private static final Duration FAILURE_DURATION = Duration.ofMinutes(1);
+    private static final Duration STALE_LOCK_TIMEOUT = Duration.ofSeconds(5);
+    // The read timeout applies per read, so allow some slack on top of the query timeouts for the response body
+    private static final Duration FETCH_LOCK_TIMEOUT = Duration.ofMillis(
+            UpdateChecker.CONNECT_TIMEOUT_MILLIS + UpdateChecker.READ_TIMEOUT_MILLIS).plus(STALE_LOCK_TIMEOUT);
+    private static final long LOCK_RETRY_MILLIS = 10;
+
+    // File locks are held per-JVM, so threads within this process must also be serialized per cache file
+    private static final Map<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final long durationMillis;
+    private final long failureDurationMillis;
+
+    SharedUpdateCache(@NotNull Path directory, @NotNull Duration duration) {
+        this.directory = directory;
+        this.durationMillis = duration.toMillis();
+        this.failureDurationMillis = Math.min(durationMillis, FAILURE_DURATION.toMillis());
+    }
+
+    /**
+     * Get the cached latest version for an endpoint resource, fetching and storing it if it is absent or has
+     * expired
+     *
+     * @param endpoint The endpoint being queried
+     * @param resource The resource being queried
+     * @param url      The resolved URL being queried, as the endpoint URL may be overridden
+     * @param fetcher  Supplier performing the actual endpoint query
+     * @return The cached or freshly fetched latest version string
+     * @throws IllegalStateException If the fetch failed, now or within the failure cache duration, or if the cache
+     *                               could not be locked in time
+     */
+    @NotNull
+    String get(@NotNull UpdateChecker.Endpoint endpoint, @NotNull String resource, @NotNull String url,
+               @NotNull Supplier<String> fetcher) throws IllegalStateException {
+        final Path file;
+        try {
+            Files.createDirectories(directory);
+            file = directory.resolve(getFileName(endpoint, resource, url)).toAbsolutePath();
+        } catch (IOException e) {
+            return fetcher.get();
+        }
+
+        final ReentrantLock processLock = PROCESS_LOCKS.computeIfAbsent(file, path -> new ReentrantLock());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Unlocked reads are safe, as entries are checksummed; a torn entry is treated as absent
+            final Entry previous = read(channel);
+            if (isFresh(previous)) {
+                return previous.getResponse();
+            }
+
+            // Only give up on the lock early if there is an expired version to fall back to
+            final Duration timeout = previous != null && !previous.isFailed()
+                    ? STALE_LOCK_TIMEOUT : FETCH_LOCK_TIMEOUT;
+            final long deadline = System.nanoTime() + timeout.toNanos();
+            if (!tryLock(processLock, deadline)) {
+                return getStale(read(channel));
+            }
+            try {
+                // Re-read under a shared lock, in case another thread or process fetched while we waited
+                final Entry cached;
+                try (FileLock shared = tryLock(channel, true, deadline)) {
+                    cached = read(channel);
+                    if (shared == null) {
+                        return getStale(cached);
+                    }
+                }
+                if (isFresh(cached)) {
+                    return cached.getResponse();
+                }
+
+                // Slow path; take the exclusive lock, then re-check in case another process fetched while we waited
+                try (FileLock exclusive = tryLock(channel, false, deadline)) {
+                    final Entry current = read(channel);
+                    if (exclusive == null) {
+                        return getStale(current);
+                    }
+                    if (isFresh(current)) {
+                        return current.getResponse();
+                    }
+                    return fetch(channel, fetcher);
+                }
+            } finally {
+                processLock.unlock();
+            }
+        } catch (IOException e) {
+            return fetcher.get();
+        }
+    }
+
+    @NotNull
+    private String fetch(@NotNull FileChannel channel, @NotNull Supplier<String> fetcher) {
+        final String response;
+        try {
+            response = fetcher.get();
+        } catch (RuntimeException e) {
+            store(channel, STATUS_FAILED, String.valueOf(e.getMessage()));
+            throw e;
+        }
+        store(channel, STATUS_OK, response);
+        return response;
+    }
+
+    private boolean isFresh(@Nullable Entry entry) {
+        if (entry == null) {
+            return false;
+        }
+        final long age = System.currentTimeMillis() - entry.fetchedAt;
+        return age >= 0 && age < (entry.isFailed() ? failureDurationMillis : durationMillis);
+    }
+
+    // Fall back to the last successfully fetched version, however old, when the cache could not be locked in time
+    @NotNull
+    private static String getStale(@Nullable Entry entry) throws IllegalStateException {
+        if (entry == null || entry.isFailed()) {
+            throw new IllegalStateException("Timed out waiting for the shared update cache");
+        }
+        return entry.response;
+    }
+
+    private static boolean tryLock(@NotNull ReentrantLock lock, long deadline) {
+        try {
+            return lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Returns null if the lock could not be acquired before the deadline
+    @Nullable
+    private static FileLock tryLock(@NotNull FileChannel channel, boolean shared, long deadline) throws IOException {
+        while (true) {
+            final FileLock lock = channel.tryLock(0, Long.MAX_VALUE, shared);
+            if (lock != null || System.nanoTime() - deadline >= 0) {
+                return lock;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    @Nullable
+    private static Entry read(@NotNull FileChannel channel) throws IOException {
+        final long size = channel.size();
+        if (size < HEADER_SIZE) {
+            return null;
+        }
+
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (buffer.getInt() != MAGIC) {
+            return null;
+        }
+        final int checksum = buffer.getInt();
+        final long fetchedAt = buffer.getLong();
+        final byte status = buffer.get();
+        final int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining() || (status != STATUS_OK && status != STATUS_FAILED)) {
+            return null;
+        }
+
+        final byte[] response = new byte[length];
+        buffer.get(response);
+        if (checksum != getChecksum(buffer, HEADER_SIZE + length)) {
+            return null;
+        }
+        return new Entry(fetchedAt, status, new String(response, StandardCharsets.UTF_8));
+    }
+
+    // Cache writes are best-effort; the fetched response is returned whether it could be stored or not
+    private static void store(@NotNull FileChannel channel, byte status, @NotNull String response) {
+        final byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        try {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + bytes.length);
+            buffer.putInt(MAGIC)
+                    .putInt(0)
+                    .putLong(System.currentTimeMillis())
+                    .put(status)
+                    .putInt(bytes.length)
+                    .put(bytes);
+            buffer.putInt(Integer.BYTES, getChecksum(buffer, HEADER_SIZE + bytes.length));
+            buffer.force();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static int getChecksum(@NotNull MappedByteBuffer buffer, int end) {
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(CHECKSUM_OFFSET).limit(end));
+        return (int) crc.getValue();
+    }
+
+    // Hash the full query identity, as sanitizing it into a file name could map distinct queries to one file
+    @NotNull
+    private static String getFileName(@NotNull UpdateChecker.Endpoint endpoint, @NotNull String resource,
+                                      @NotNull String url) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((endpoint.name() + '\n' + resource + '\n' + url).getBytes(StandardCharsets.UTF_8));
+            final StringBuilder name = new StringBuilder(endpoint.name().toLowerCase(Locale.ENGLISH)).append('-');
+            for (byte b : hash) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.append(FILE_EXTENSION).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static final class Entry {
+        private final long fetchedAt;
+        private final byte status;
+        private final String response;
+
+        private Entry(long fetchedAt, byte status, @NotNull String response) {
+            this.fetchedAt = fetchedAt;
+            this.status = status;
+            this.response = response;
+        }
+
+        private boolean isFailed() {
+            return status == STATUS_FAILED;
+        }
+
+        @NotNull
+        private String getResponse() throws IllegalStateException {
+            if (isFailed()) {
+                throw new IllegalStateException("Unable to fetch latest version (cached failure): " + response);
+            }
+            return response;
+        }
+    }
+
+}
@@ -19,7 +19,11 @@
 
 package net.william278.desertwell.util;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * A Consumer that can throw an exception
@@ -31,7 +35,8 @@ import java.util.function.Consumer;
 public interface ThrowingConsumer<T> extends Consumer<T> {
 
     /**
-     * Accepts the element, wrapping any exceptions in a {@link RuntimeException}
+     * Accepts the element, rethrowing unchecked exceptions and wrapping checked exceptions in a
+     * {@link WrappedException}
      *
      * @param element the input argument to accept
      * @throws RuntimeException If an exception occurs
@@ -42,7 +47,7 @@ public interface ThrowingConsumer<T> extends Consumer<T> {
         try {
             acceptThrows(element);
         } catch (final Throwable e) {
-            throw new RuntimeException(e);
+            throw Exceptions.propagate(e);
         }
     }
 
@@ -55,4 +60,41 @@ public interface ThrowingConsumer<T> extends Consumer<T> {
      */
     void acceptThrows(T elem) throws Throwable;
 
+    /**
+     * Get a {@link Consumer} that rethrows any exception as-is, without wrapping it, even if it is checked
+     *
+     * @return The sneaky-throwing {@link Consumer}
+     * @since 2.1
+     */
+    @NotNull
+    default Consumer<T> sneaky() {
+        return element -> {
+            try {
+                acceptThrows(element);
+            } catch (final Throwable e) {
+                throw Exceptions.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Get a {@link Function} returning a {@link CompletableFuture}, for use with
+     * {@link CompletableFuture#thenCompose(Function)}. Exceptions complete the future exceptionally as-is, so they
+     * are wrapped in at most one {@link java.util.concurrent.CompletionException}
+     *
+     * @return The future-returning {@link Function}
+     * @since 2.1
+     */
+    @NotNull
+    default Function<T, CompletableFuture<Void>> asFuture() {
+        return element -> {
+            try {
+                acceptThrows(element);
+                return CompletableFuture.completedFuture(null);
+            } catch (final Throwable e) {
+                return CompletableFuture.failedFuture(Exceptions.unwrap(e));
+            }
+        };
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A Function that can throw an exception
+ *
+ * @param <T> The type of the input to the function
+ * @param <R> The type of the result of the function
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface ThrowingFunction<T, R> extends Function<T, R> {
+
+    /**
+     * Applies the function, rethrowing unchecked exceptions and wrapping checked exceptions in a
+     * {@link WrappedException}
+     *
+     * @param element the input argument to apply the function to
+     * @return The result of the function
+     * @throws RuntimeException If an exception occurs
+     */
+    @Override
+    default R apply(final T element) throws RuntimeException {
+        try {
+            return applyThrows(element);
+        } catch (final Throwable e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    /**
+     * Applies the function, potentially throwing an exception
+     *
+     * @param element The input argument to apply the function to
+     * @return The result of the function
+     * @throws Throwable If an exception occurs
+     */
+    R applyThrows(T element) throws Throwable;
+
+    /**
+     * Get a {@link Function} that rethrows any exception as-is, without wrapping it, even if it is checked
+     *
+     * @return The sneaky-throwing {@link Function}
+     */
+    @NotNull
+    default Function<T, R> sneaky() {
+        return element -> {
+            try {
+                return applyThrows(element);
+            } catch (final Throwable e) {
+                throw Exceptions.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Get a {@link Function} returning a {@link CompletableFuture}, for use with
+     * {@link CompletableFuture#thenCompose(Function)}. Exceptions complete the future exceptionally as-is, so they
+     * are wrapped in at most one {@link java.util.concurrent.CompletionException}
+     *
+     * @return The future-returning {@link Function}
+     */
+    @NotNull
+    default Function<T, CompletableFuture<R>> asFuture() {
+        return element -> {
+            try {
+                return CompletableFuture.completedFuture(applyThrows(element));
+            } catch (final Throwable e) {
+                return CompletableFuture.failedFuture(Exceptions.unwrap(e));
+            }
+        };
+    }
+
+}
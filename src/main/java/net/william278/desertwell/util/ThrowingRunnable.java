@@ -0,0 +1,69 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A Runnable that can throw an exception
+ *
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface ThrowingRunnable extends Runnable {
+
+    /**
+     * Runs the task, rethrowing unchecked exceptions and wrapping checked exceptions in a {@link WrappedException}
+     *
+     * @throws RuntimeException If an exception occurs
+     */
+    @Override
+    default void run() throws RuntimeException {
+        try {
+            runThrows();
+        } catch (final Throwable e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    /**
+     * Runs the task, potentially throwing an exception
+     *
+     * @throws Throwable If an exception occurs
+     */
+    void runThrows() throws Throwable;
+
+    /**
+     * Get a {@link Runnable} that rethrows any exception as-is, without wrapping it, even if it is checked
+     *
+     * @return The sneaky-throwing {@link Runnable}
+     */
+    @NotNull
+    default Runnable sneaky() {
+        return () -> {
+            try {
+                runThrows();
+            } catch (final Throwable e) {
+                throw Exceptions.sneakyThrow(e);
+            }
+        };
+    }
+
+}
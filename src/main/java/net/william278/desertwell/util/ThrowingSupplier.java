@@ -0,0 +1,74 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A Supplier that can throw an exception
+ *
+ * @param <T> The type of the result supplied
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<T> extends Supplier<T> {
+
+    /**
+     * Gets the result, rethrowing unchecked exceptions and wrapping checked exceptions in a {@link WrappedException}
+     *
+     * @return The result
+     * @throws RuntimeException If an exception occurs
+     */
+    @Override
+    default T get() throws RuntimeException {
+        try {
+            return getThrows();
+        } catch (final Throwable e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    /**
+     * Gets the result, potentially throwing an exception
+     *
+     * @return The result
+     * @throws Throwable If an exception occurs
+     */
+    T getThrows() throws Throwable;
+
+    /**
+     * Get a {@link Supplier} that rethrows any exception as-is, without wrapping it, even if it is checked
+     *
+     * @return The sneaky-throwing {@link Supplier}
+     */
+    @NotNull
+    default Supplier<T> sneaky() {
+        return () -> {
+            try {
+                return getThrows();
+            } catch (final Throwable e) {
+                throw Exceptions.sneakyThrow(e);
+            }
+        };
+    }
+
+}
@@ -20,6 +20,7 @@
 package net.william278.desertwell.util;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -27,6 +28,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -36,17 +40,27 @@ import java.util.regex.Pattern;
  */
 @SuppressWarnings("unused")
 public class UpdateChecker {
+    // Bound every query, so that a hung connection cannot stall checks (or holders of the shared cache) forever
+    static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+    static final int READ_TIMEOUT_MILLIS = 10_000;
+
     private final Endpoint endpoint;
     private final Version currentVersion;
     private final String versionMetaDelimiter;
     private final String resource;
+    private final String endpointUrl;
+    @Nullable
+    private final SharedUpdateCache cache;
 
-    private UpdateChecker(@NotNull Endpoint endpoint, @NotNull Version currentVersion,
-                          @NotNull String versionMetaDelimiter, @NotNull String resource) {
+    private UpdateChecker(@NotNull Endpoint endpoint, @NotNull String endpointUrl, @NotNull Version currentVersion,
+                          @NotNull String versionMetaDelimiter, @NotNull String resource,
+                          @Nullable SharedUpdateCache cache) {
         this.endpoint = endpoint;
+        this.endpointUrl = endpointUrl;
         this.currentVersion = currentVersion;
         this.versionMetaDelimiter = versionMetaDelimiter;
         this.resource = resource;
+        this.cache = cache;
     }
 
     @NotNull
@@ -61,15 +75,27 @@ public class UpdateChecker {
      */
     public CompletableFuture<Completed> check() {
         return CompletableFuture
-                .supplyAsync(() -> new Completed(this, Version.fromString(endpoint.query(resource), versionMetaDelimiter)))
-                .exceptionally(throwable -> new Completed(this, currentVersion));
+                .supplyAsync(() -> new Completed(this, Version.fromString(queryLatest(), versionMetaDelimiter), true))
+                .exceptionally(throwable -> new Completed(this, currentVersion, false));
+    }
+
+    @NotNull
+    private String queryLatest() {
+        if (cache != null) {
+            return cache.get(endpoint, resource, Endpoint.formatId(endpointUrl, resource),
+                    () -> endpoint.query(resource, endpointUrl));
+        }
+        return endpoint.query(resource, endpointUrl);
     }
 
     public static class Builder {
         private Endpoint endpoint = Endpoint.SPIGOT;
+        private String endpointUrl;
         private Version currentVersion;
         private String versionMetaDelimiter = Version.META_DELIMITER;
         private String resource;
+        private Path cacheDirectory;
+        private Duration cacheDuration = Duration.ofHours(1);
 
         private Builder() {
         }
@@ -80,6 +106,20 @@ public class UpdateChecker {
             return this;
         }
 
+        /**
+         * Override the URL queried for the {@link Endpoint}, e.g. to use a mirror or a local server.
+         * The URL must serve the same response format as the endpoint; {@code {id}} will be replaced with the resource
+         *
+         * @param endpointUrl The endpoint URL
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder endpointUrl(@NotNull String endpointUrl) {
+            this.endpointUrl = endpointUrl;
+            return this;
+        }
+
         @NotNull
         public Builder currentVersion(@NotNull Version currentVersion) {
             this.currentVersion = currentVersion;
@@ -98,6 +138,36 @@ public class UpdateChecker {
             return this;
         }
 
+        /**
+         * Set a directory in which to cache endpoint responses, shared between processes on the same host.
+         * <p>
+         * When set, only one process per host will query the endpoint for the resource per
+         * {@link #cacheDuration(Duration) cache duration}; others will read the cached response.
+         *
+         * @param cacheDirectory The shared cache directory
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder cacheDirectory(@NotNull Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        /**
+         * Set how long responses in the {@link #cacheDirectory(Path) shared cache directory} remain valid for.
+         * Defaults to one hour
+         *
+         * @param cacheDuration The duration to cache responses for
+         * @return The {@link Builder}
+         * @since 2.1
+         */
+        @NotNull
+        public Builder cacheDuration(@NotNull Duration cacheDuration) {
+            this.cacheDuration = cacheDuration;
+            return this;
+        }
+
         @NotNull
         public UpdateChecker build() {
             if (currentVersion == null) {
@@ -106,7 +176,12 @@ public class UpdateChecker {
             if (resource == null) {
                 throw new IllegalStateException("Resource is not set");
             }
-            return new UpdateChecker(endpoint, currentVersion, versionMetaDelimiter, resource);
+            if (cacheDuration.isNegative()) {
+                throw new IllegalStateException("Cache duration must not be negative");
+            }
+            return new UpdateChecker(endpoint, endpointUrl != null ? endpointUrl : endpoint.getUrl(),
+                    currentVersion, versionMetaDelimiter, resource,
+                    cacheDirectory != null ? new SharedUpdateCache(cacheDirectory, cacheDuration) : null);
         }
 
     }
@@ -116,55 +191,64 @@ public class UpdateChecker {
      * @since 2.0
      */
     public enum Endpoint {
-        SPIGOT((resource -> {
-            final String url = formatId("https://api.spigotmc.org/legacy/update.php?resource={id}", resource);
-            try (final InputStreamReader reader = new InputStreamReader(new URL(url).openConnection().getInputStream())) {
-                return new BufferedReader(reader).readLine();
-            } catch (IOException e) {
-                throw new IllegalStateException("Unable to fetch latest version", e);
-            }
-        })),
-        POLYMART((resource -> {
-            final String url = formatId("https://api.polymart.org/v1/getResourceInfoSimple/?resource_id={id}&key=version", resource);
-            try (final InputStreamReader reader = new InputStreamReader(new URL(url).openConnection().getInputStream())) {
-                return new BufferedReader(reader).readLine();
-            } catch (IOException e) {
-                throw new IllegalStateException("Unable to fetch latest version", e);
-            }
-        })),
-        MODRINTH((resource -> {
-            final String url = formatId("https://api.modrinth.com/v2/project/{id}/version", resource);
-            try (final InputStreamReader reader = new InputStreamReader(new URL(url).openConnection().getInputStream())) {
-                final JSONArray array = new JSONArray(new BufferedReader(reader).readLine());
-                for (int i = 0; i < array.length(); i++) {
-                    final JSONObject object = array.getJSONObject(i);
-                    if (object.getString("version_type").equals("release")) {
-                        return object.getString("version_number");
-                    }
+        SPIGOT("https://api.spigotmc.org/legacy/update.php?resource={id}", (response -> response)),
+        POLYMART("https://api.polymart.org/v1/getResourceInfoSimple/?resource_id={id}&key=version", (response -> response)),
+        MODRINTH("https://api.modrinth.com/v2/project/{id}/version", (response -> {
+            final JSONArray array = new JSONArray(response);
+            for (int i = 0; i < array.length(); i++) {
+                final JSONObject object = array.getJSONObject(i);
+                if (object.getString("version_type").equals("release")) {
+                    return object.getString("version_number");
                 }
-                throw new IllegalStateException("No versions found");
-            } catch (IOException e) {
-                throw new IllegalStateException("Unable to fetch latest version", e);
             }
+            throw new IllegalStateException("No versions found");
         })),
-        GITHUB((resource -> {
-            final String url = formatId("https://api.github.com/repos/{id}/releases/latest", resource);
-            try (final InputStreamReader reader = new InputStreamReader(new URL(url).openConnection().getInputStream())) {
-                return new JSONObject(new BufferedReader(reader).readLine()).getString("tag_name");
-            } catch (IOException e) {
-                throw new IllegalStateException("Unable to fetch latest version", e);
-            }
-        }));
+        GITHUB("https://api.github.com/repos/{id}/releases/latest", (response -> new JSONObject(response).getString("tag_name")));
 
-        private final Function<String, String> queryFunction;
+        private final String url;
+        private final Function<String, String> responseParser;
 
-        Endpoint(@NotNull Function<String, String> queryFunction) {
-            this.queryFunction = queryFunction;
+        Endpoint(@NotNull String url, @NotNull Function<String, String> responseParser) {
+            this.url = url;
+            this.responseParser = responseParser;
         }
 
         @NotNull
         public String query(@NotNull String resource) {
-            return queryFunction.apply(resource);
+            return query(resource, url);
+        }
+
+        /**
+         * Query a URL serving this endpoint's response format for the latest version of a resource
+         *
+         * @param resource The resource to query
+         * @param url      The URL to query, where {@code {id}} will be replaced with the resource
+         * @return The latest version string
+         * @since 2.1
+         */
+        @NotNull
+        public String query(@NotNull String resource, @NotNull String url) {
+            try {
+                final URLConnection connection = new URL(formatId(url, resource)).openConnection();
+                connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+                connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+                try (final InputStreamReader reader = new InputStreamReader(connection.getInputStream())) {
+                    return responseParser.apply(new BufferedReader(reader).readLine());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to fetch latest version", e);
+            }
+        }
+
+        /**
+         * Get the default URL queried by this endpoint, where {@code {id}} is replaced with the resource
+         *
+         * @return The endpoint URL
+         * @since 2.1
+         */
+        @NotNull
+        public String getUrl() {
+            return url;
         }
 
         @NotNull
@@ -176,10 +260,12 @@ public class UpdateChecker {
     public static class Completed {
         private final UpdateChecker checker;
         private final Version latestVersion;
+        private final boolean successful;
 
-        private Completed(@NotNull UpdateChecker checker, @NotNull Version latestVersion) {
+        private Completed(@NotNull UpdateChecker checker, @NotNull Version latestVersion, boolean successful) {
             this.checker = checker;
             this.latestVersion = latestVersion;
+            this.successful = successful;
         }
 
         @NotNull
@@ -196,6 +282,17 @@ public class UpdateChecker {
             return checker.currentVersion.compareTo(latestVersion) >= 0;
         }
 
+        /**
+         * Get whether the latest version was successfully fetched. If not, the latest version is reported as the
+         * current version, and the resource is considered {@link #isUpToDate() up to date}
+         *
+         * @return {@code true} if the check succeeded; {@code false} if the endpoint could not be queried
+         * @since 2.1
+         */
+        public boolean isSuccessful() {
+            return successful;
+        }
+
     }
 
 }
\ No newline at end of file
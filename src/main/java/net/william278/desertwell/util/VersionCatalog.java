@@ -0,0 +1,262 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A sorted catalog of {@link Version}s, each with an attached payload (such as a download URL or changelog),
+ * supporting fast queries for the latest compatible release.
+ * <p>
+ * Versions are ordered by {@link Version#compareTo(Version)}, and all queries run in {@code O(log n)}.
+ * Versions with the same version numbers but different metadata are kept as separate entries: pre-releases
+ * (e.g. {@code 2.0.0-SNAPSHOT}) are ordered before the release without metadata ({@code 2.0.0}), and otherwise
+ * by their metadata text. Versions with equal numbers and metadata (e.g. {@code 1.0} and {@code 1.0.0}) replace
+ * each other.
+ * <p>
+ * {@link Version} keeps at most three version numbers, parsing any further ones as metadata, so all-numeric
+ * metadata is ordered after the release instead, by its numbers: {@code 1.20.4} is followed by {@code 1.20.4.1},
+ * then {@code 1.20.4.2}. As a consequence, {@code 1.20.4-1} cannot be told apart from {@code 1.20.4.1}
+ *
+ * @param <T> The type of payload attached to each version
+ * @since 2.1
+ */
+@SuppressWarnings("unused")
+public class VersionCatalog<T> {
+    // Version#compareTo ignores metadata, so break ties on it
+    private static final Comparator<Version> ORDER = Comparator.<Version>naturalOrder()
+            .thenComparing(Version::getMetadata, VersionCatalog::compareMetadata);
+    private static final Pattern NUMERIC_METADATA = Pattern.compile("\\d+(\\.\\d+)*");
+
+    private final NavigableMap<Version, T> releases = new TreeMap<>(ORDER);
+
+    private VersionCatalog() {
+    }
+
+    /**
+     * Create an empty {@link VersionCatalog}
+     *
+     * @param <T> The type of payload attached to each version
+     * @return The {@link VersionCatalog}
+     */
+    @NotNull
+    public static <T> VersionCatalog<T> create() {
+        return new VersionCatalog<>();
+    }
+
+    /**
+     * Create a {@link VersionCatalog} from a map of versions to payloads
+     *
+     * @param releases The versions and their payloads
+     * @param <T>      The type of payload attached to each version
+     * @return The {@link VersionCatalog}
+     */
+    @NotNull
+    public static <T> VersionCatalog<T> of(@NotNull Map<Version, ? extends T> releases) {
+        return new VersionCatalog<T>().putAll(releases);
+    }
+
+    /**
+     * Add a version to the catalog, replacing any existing version with equal version numbers and metadata
+     *
+     * @param version The version
+     * @param payload The payload to attach to the version
+     * @return The {@link VersionCatalog}
+     */
+    @NotNull
+    public VersionCatalog<T> put(@NotNull Version version, @NotNull T payload) {
+        releases.put(version, payload);
+        return this;
+    }
+
+    /**
+     * Add many versions to the catalog at once. When the catalog is empty and the map is another catalog's
+     * {@link #asMap()}, this runs in linear time
+     *
+     * @param releases The versions and their payloads
+     * @return The {@link VersionCatalog}
+     */
+    @NotNull
+    public VersionCatalog<T> putAll(@NotNull Map<Version, ? extends T> releases) {
+        this.releases.putAll(releases);
+        return this;
+    }
+
+    /**
+     * Add many versions to the catalog, such as the release history of a resource, computing the payload for each
+     *
+     * @param versions The versions to add
+     * @param payload  Function computing the payload for a version
+     * @return The {@link VersionCatalog}
+     */
+    @NotNull
+    public VersionCatalog<T> addAll(@NotNull Collection<Version> versions,
+                                    @NotNull Function<? super Version, ? extends T> payload) {
+        for (Version version : versions) {
+            releases.put(version, payload.apply(version));
+        }
+        return this;
+    }
+
+    /**
+     * Get the payload attached to a version
+     *
+     * @param version The version
+     * @return The payload, if the version is in the catalog
+     */
+    @NotNull
+    public Optional<T> get(@NotNull Version version) {
+        return Optional.ofNullable(releases.get(version));
+    }
+
+    /**
+     * Get the newest version in the catalog. A release is newer than pre-releases with the same version numbers
+     *
+     * @return The newest version and its payload, if the catalog is not empty
+     */
+    @NotNull
+    public Optional<Map.Entry<Version, T>> getLatest() {
+        return Optional.ofNullable(releases.lastEntry());
+    }
+
+    /**
+     * Get the newest version with the given major version number (e.g. the newest {@code 2.x.x})
+     *
+     * @param major The major version number
+     * @return The newest matching version and its payload, if any
+     */
+    @NotNull
+    public Optional<Map.Entry<Version, T>> getLatest(int major) {
+        return getLatestBetween(Version.fromString(major + ".0.0"),
+                Version.fromString(major + "." + Integer.MAX_VALUE + "." + Integer.MAX_VALUE));
+    }
+
+    /**
+     * Get the newest version with the given major and minor version numbers (e.g. the newest {@code 1.20.x})
+     *
+     * @param major The major version number
+     * @param minor The minor version number
+     * @return The newest matching version and its payload, if any
+     */
+    @NotNull
+    public Optional<Map.Entry<Version, T>> getLatest(int major, int minor) {
+        return getLatestBetween(Version.fromString(major + "." + minor + ".0"),
+                Version.fromString(major + "." + minor + "." + Integer.MAX_VALUE));
+    }
+
+    /**
+     * Get the newest version not above the given version
+     *
+     * @param version The version
+     * @return The greatest version less than or equal to the given version and its payload, if any
+     */
+    @NotNull
+    public Optional<Map.Entry<Version, T>> getFloor(@NotNull Version version) {
+        return Optional.ofNullable(releases.floorEntry(version));
+    }
+
+    /**
+     * Get the oldest version not below the given version
+     *
+     * @param version The version
+     * @return The least version greater than or equal to the given version and its payload, if any
+     */
+    @NotNull
+    public Optional<Map.Entry<Version, T>> getCeiling(@NotNull Version version) {
+        return Optional.ofNullable(releases.ceilingEntry(version));
+    }
+
+    /**
+     * Get an unmodifiable, sorted view of the versions in the catalog and their payloads
+     *
+     * @return The catalog as a map
+     */
+    @NotNull
+    public NavigableMap<Version, T> asMap() {
+        return Collections.unmodifiableNavigableMap(releases);
+    }
+
+    public int size() {
+        return releases.size();
+    }
+
+    public boolean isEmpty() {
+        return releases.isEmpty();
+    }
+
+    @NotNull
+    private Optional<Map.Entry<Version, T>> getLatestBetween(@NotNull Version lowest, @NotNull Version highest) {
+        final Map.Entry<Version, T> latest = releases.floorEntry(highest);
+        if (latest == null || latest.getKey().compareTo(lowest) < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(latest);
+    }
+
+    // Pre-releases sort before the release, and further version numbers after it
+    private static int compareMetadata(@NotNull String first, @NotNull String second) {
+        final int rank = Integer.compare(getRank(first), getRank(second));
+        if (rank != 0) {
+            return rank;
+        }
+        if (NUMERIC_METADATA.matcher(first).matches()) {
+            final int numeric = compareNumbers(first.split("\\."), second.split("\\."));
+            if (numeric != 0) {
+                return numeric;
+            }
+        }
+        return first.compareTo(second);
+    }
+
+    private static int getRank(@NotNull String metadata) {
+        if (metadata.isEmpty()) {
+            return 1;
+        }
+        return NUMERIC_METADATA.matcher(metadata).matches() ? 2 : 0;
+    }
+
+    // Compare as numbers of any length, without parsing them
+    private static int compareNumbers(@NotNull String[] first, @NotNull String[] second) {
+        for (int i = 0; i < Math.min(first.length, second.length); i++) {
+            final String a = stripLeadingZeros(first[i]);
+            final String b = stripLeadingZeros(second[i]);
+            final int compare = a.length() != b.length()
+                    ? Integer.compare(a.length(), b.length()) : a.compareTo(b);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return Integer.compare(first.length, second.length);
+    }
+
+    @NotNull
+    private static String stripLeadingZeros(@NotNull String number) {
+        int start = 0;
+        while (start < number.length() - 1 && number.charAt(start) == '0') {
+            start++;
+        }
+        return number.substring(start);
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An unchecked exception wrapping a checked exception thrown by a throwing functional interface.
+ * <p>
+ * The wrapped exception already carries the relevant stack trace, so this wrapper does not capture its own,
+ * keeping failures cheap in loops where they are expected
+ *
+ * @since 2.1
+ */
+public final class WrappedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    WrappedException(@NotNull Throwable cause) {
+        super(cause.toString(), cause, false, false);
+    }
+
+}
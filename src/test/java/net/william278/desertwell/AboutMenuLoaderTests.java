@@ -0,0 +1,93 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.william278.desertwell.about.AboutMenu;
+import net.william278.desertwell.about.AboutMenuLoader;
+import org.jetbrains.annotations.NotNull;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Tests for the AboutMenuLoader class
+public class AboutMenuLoaderTests {
+
+    private static final String DEFINITION = "{\"title\": \"Example\", \"version\": \"%s\", "
+            + "\"credits\": [{\"category\": \"Author\", \"credits\": [\"William278\"]}], "
+            + "\"buttons\": [{\"url\": \"https://william278.net\", \"text\": \"Website\"}]}";
+
+    @Test
+    public void testParseDefinition() {
+        final AboutMenu menu = AboutMenuLoader.parse(new JSONObject(String.format(DEFINITION, "1.0.0"))).build();
+        Assertions.assertEquals("\nExample | v1.0.0\n\n• Author: William278"
+                                + "\n\nLinks: Website (https://william278.net)", menu.toPlainString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AboutMenuLoader.parse(new JSONObject("{}")));
+    }
+
+    @Test
+    public void testHotReload(@TempDir @NotNull Path directory) throws Exception {
+        final Path file = directory.resolve("about.json");
+        Files.writeString(file, String.format(DEFINITION, "1.0.0"));
+        try (AboutMenuLoader loader = AboutMenuLoader.watch(file)) {
+            final AboutMenu initial = loader.getMenu();
+            Assertions.assertTrue(initial.toPlainString().contains("v1.0.0"));
+
+            Files.writeString(file, String.format(DEFINITION, "1.0.1"));
+            final long deadline = System.currentTimeMillis() + 30_000;
+            while (loader.getMenu() == initial && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assertions.assertTrue(loader.getMenu().toPlainString().contains("v1.0.1"));
+        }
+    }
+
+    @Test
+    public void testPartialWritesAreCoalesced(@TempDir @NotNull Path directory) throws Exception {
+        final Path file = directory.resolve("about.json");
+        Files.writeString(file, String.format(DEFINITION, "1.0.0"));
+        final List<Exception> errors = new CopyOnWriteArrayList<>();
+        try (AboutMenuLoader loader = AboutMenuLoader.watch(file, builder -> {
+        }, errors::add)) {
+            final AboutMenu initial = loader.getMenu();
+
+            // Imitate an editor truncating the file, then writing it in two parts, within the debounce period
+            final String definition = String.format(DEFINITION, "1.0.1");
+            Files.writeString(file, "");
+            Thread.sleep(20);
+            Files.writeString(file, definition.substring(0, definition.length() / 2));
+            Thread.sleep(20);
+            Files.writeString(file, definition.substring(definition.length() / 2), StandardOpenOption.APPEND);
+            final long deadline = System.currentTimeMillis() + 30_000;
+            while (loader.getMenu() == initial && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assertions.assertTrue(loader.getMenu().toPlainString().contains("v1.0.1"));
+            Assertions.assertEquals(List.of(), errors);
+        }
+    }
+
+}
@@ -0,0 +1,369 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.william278.desertwell.about.AboutMenu;
+import net.william278.desertwell.util.UpdateChecker;
+import net.william278.desertwell.util.Version;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Tests for the AboutMenu class
+public class AboutMenuTests {
+
+    @NotNull
+    private static AboutMenu.Builder createBuilder() {
+        return AboutMenu.builder()
+                .title(Component.text("Example"))
+                .description(Component.text("An example plugin"))
+                .version(Version.fromString("1.0.0"))
+                .credits("Author", AboutMenu.Credit.of("William278").description("Click to visit website"))
+                .buttons(AboutMenu.Link.of("https://william278.net").text("Website").icon("⛏"));
+    }
+
+    @Test
+    public void testComponentIsCached() {
+        final AboutMenu menu = createBuilder().build();
+        Assertions.assertSame(menu.toComponent(), menu.toComponent());
+    }
+
+    @Test
+    public void testMenuIsUnaffectedByLaterChanges() {
+        final AboutMenu.Credit credit = AboutMenu.Credit.of("Contributor");
+        final AboutMenu.Builder builder = createBuilder().credits("Contributors", credit);
+        final Component expected = builder.build().toComponent();
+
+        final AboutMenu menu = builder.build();
+        builder.credits("Translators", AboutMenu.Credit.of("Translator"));
+        credit.description("Changed after build");
+        Assertions.assertEquals(expected, menu.toComponent());
+    }
+
+    @Test
+    public void testSerializedOutputIsCached() {
+        final AboutMenu menu = createBuilder().build();
+        final String json = menu.serialize(GsonComponentSerializer.gson());
+        Assertions.assertEquals(GsonComponentSerializer.gson().serialize(menu.toComponent()), json);
+        Assertions.assertSame(json, menu.serialize(GsonComponentSerializer.gson()));
+
+        final String legacy = menu.serialize(LegacyComponentSerializer.legacySection());
+        Assertions.assertEquals(LegacyComponentSerializer.legacySection().serialize(menu.toComponent()), legacy);
+        Assertions.assertSame(legacy, menu.serialize(LegacyComponentSerializer.legacySection()));
+    }
+
+    @Test
+    public void testThrowawaySerializersAreNotCached() {
+        final AboutMenu menu = createBuilder().build();
+        final String json = menu.serialize(GsonComponentSerializer.gson());
+        for (int i = 0; i < 100; i++) {
+            final LegacyComponentSerializer serializer = LegacyComponentSerializer.builder().build();
+            Assertions.assertEquals(serializer.serialize(menu.toComponent()), menu.serialize(serializer));
+        }
+        Assertions.assertSame(json, menu.serialize(GsonComponentSerializer.gson()));
+    }
+
+    @Test
+    public void testDynamicSectionRendersOnlyOnChange() {
+        final AtomicInteger value = new AtomicInteger();
+        final AtomicInteger renders = new AtomicInteger();
+        final AboutMenu menu = createBuilder()
+                .sections(AboutMenu.DynamicSection.of(value::get, current -> {
+                    renders.incrementAndGet();
+                    return Component.text("Value: " + current);
+                }))
+                .build();
+
+        final Component first = menu.toComponent();
+        Assertions.assertSame(first, menu.toComponent());
+        Assertions.assertEquals(1, renders.get());
+
+        value.incrementAndGet();
+        final Component second = menu.toComponent();
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertSame(second, menu.toComponent());
+        Assertions.assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void testDynamicSectionIsCopiedOnBuild() {
+        final AtomicInteger value = new AtomicInteger();
+        final AboutMenu.DynamicSection<Integer> section = AboutMenu.DynamicSection
+                .of(value::get, current -> Component.text("Value: " + current))
+                .refreshInterval(Duration.ofHours(1));
+        final AboutMenu first = createBuilder().sections(section).build();
+        final AboutMenu second = createBuilder().sections(section).build();
+        Assertions.assertTrue(first.toPlainString().contains("Value: 0"));
+
+        value.incrementAndGet();
+        section.refreshInterval(Duration.ZERO);
+        Assertions.assertTrue(second.toPlainString().contains("Value: 1"));
+        Assertions.assertTrue(first.toPlainString().contains("Value: 0"));
+    }
+
+    @Test
+    public void testPlainString() {
+        final AboutMenu menu = createBuilder().build();
+        final String expected = "\nExample | v1.0.0\nAn example plugin\n"
+                                + "\n• Author: William278 (Click to visit website)"
+                                + "\n\nLinks: Website (https://william278.net)";
+        Assertions.assertEquals(expected, menu.toPlainString());
+        Assertions.assertSame(menu.toPlainString(), menu.toPlainString());
+        Assertions.assertEquals(expected, menu.toString());
+    }
+
+    @Test
+    public void testPlainStringFlattensNonTextComponents() {
+        final AboutMenu menu = createBuilder()
+                .description(Component.text("Press ").append(Component.keybind("key.jump"))
+                        .append(Component.text(" near ")).append(Component.translatable("block.minecraft.stone")))
+                .build();
+        Assertions.assertTrue(menu.toPlainString().contains("\nPress key.jump near block.minecraft.stone\n"));
+    }
+
+    @Test
+    public void testPagination() {
+        final AboutMenu menu = createBuilder()
+                .credits("Contributors", AboutMenu.Credit.of("Contributor 1"), AboutMenu.Credit.of("Contributor 2"),
+                        AboutMenu.Credit.of("Contributor 3"), AboutMenu.Credit.of("Contributor 4"))
+                .creditsPerPage(2)
+                .pageCommand("/example about %page%")
+                .build();
+
+        Assertions.assertEquals(3, menu.getPageCount());
+        Assertions.assertSame(menu.toComponent(), menu.toComponent(1));
+        Assertions.assertSame(menu.toComponent(3), menu.toComponent(3));
+        Assertions.assertNotEquals(menu.toComponent(2), menu.toComponent(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> menu.toComponent(4));
+        Assertions.assertEquals(1, createBuilder().build().getPageCount());
+    }
+
+    @Test
+    public void testNegativeCreditsPerPageIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> createBuilder().creditsPerPage(-1));
+        Assertions.assertEquals(1, createBuilder().creditsPerPage(0).build().getPageCount());
+    }
+
+    @Test
+    public void testPageFooter() {
+        final AboutMenu.Builder builder = createBuilder()
+                .credits("Contributors", AboutMenu.Credit.of("Contributor 1"), AboutMenu.Credit.of("Contributor 2"))
+                .creditsPerPage(1);
+        final String withoutCommand = toPlainText(builder.build().toComponent(2));
+        Assertions.assertTrue(withoutCommand.endsWith("[⛏ Website]\n\nPage 2/3"));
+
+        final String withCommand = toPlainText(builder.pageCommand("/example about %page%").build().toComponent(2));
+        Assertions.assertTrue(withCommand.endsWith("[⛏ Website]\n\n[◀] Page 2/3 [▶]"));
+    }
+
+    @Test
+    public void testLocalizedMenu() {
+        final AboutMenu menu = createBuilder()
+                .translations(Locale.GERMAN, Map.of("Author", "Autor", "Links", "Links", "Website", "Webseite"))
+                .build();
+
+        final Component german = menu.toComponent(Locale.GERMANY);
+        Assertions.assertNotEquals(menu.toComponent(), german);
+        Assertions.assertSame(german, menu.toComponent(Locale.GERMAN));
+        Assertions.assertSame(menu.toComponent(), menu.toComponent(Locale.FRENCH));
+    }
+
+    @Test
+    public void testLocalizedPages() {
+        final AboutMenu menu = createBuilder()
+                .credits("Contributors", AboutMenu.Credit.of("Contributor 1"), AboutMenu.Credit.of("Contributor 2"))
+                .creditsPerPage(1)
+                .pageCommand("/example about %page%")
+                .translations(Locale.GERMAN, Map.of("Contributors", "Mitwirkende", "Page", "Seite"))
+                .build();
+
+        final Component german = menu.toComponent(Locale.GERMANY, 2);
+        Assertions.assertSame(german, menu.toComponent(Locale.GERMAN, 2));
+        Assertions.assertSame(menu.toComponent(Locale.GERMAN), menu.toComponent(Locale.GERMAN, 1));
+        Assertions.assertSame(menu.toComponent(2), menu.toComponent(Locale.FRENCH, 2));
+        Assertions.assertTrue(toPlainText(german).contains("• Mitwirkende: Contributor 1"));
+        Assertions.assertTrue(toPlainText(german).endsWith("[◀] Seite 2/3 [▶]"));
+
+        // The last part of the page is the navigation, ending with the next page button
+        final List<Component> navigation = german.children().get(german.children().size() - 1).children();
+        final HoverEvent<?> hover = navigation.get(navigation.size() - 1).hoverEvent();
+        Assertions.assertNotNull(hover);
+        Assertions.assertEquals(Component.text("Seite 3", TextColor.color(0x00FB9A)), hover.value());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> menu.toComponent(Locale.GERMAN, 4));
+    }
+
+    @Test
+    public void testLocalizedPagesAreSerialized() {
+        final GsonComponentSerializer gson = GsonComponentSerializer.gson();
+        final AboutMenu menu = createBuilder()
+                .credits("Contributors", AboutMenu.Credit.of("Contributor 1"), AboutMenu.Credit.of("Contributor 2"))
+                .creditsPerPage(1)
+                .translations(Locale.GERMAN, Map.of("Contributors", "Mitwirkende"))
+                .build();
+
+        final String german = menu.serialize(gson, Locale.GERMAN);
+        Assertions.assertEquals(gson.serialize(menu.toComponent(Locale.GERMAN)), german);
+        Assertions.assertSame(german, menu.serialize(gson, Locale.GERMANY));
+        Assertions.assertSame(german, menu.serialize(gson, Locale.GERMAN, 1));
+        Assertions.assertSame(menu.serialize(gson), menu.serialize(gson, Locale.FRENCH));
+
+        final String page = menu.serialize(gson, 2);
+        Assertions.assertEquals(gson.serialize(menu.toComponent(2)), page);
+        Assertions.assertSame(page, menu.serialize(gson, 2));
+
+        final String germanPage = menu.serialize(gson, Locale.GERMAN, 2);
+        Assertions.assertEquals(gson.serialize(menu.toComponent(Locale.GERMAN, 2)), germanPage);
+        Assertions.assertSame(germanPage, menu.serialize(gson, Locale.GERMAN, 2));
+        Assertions.assertNotEquals(page, germanPage);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> menu.serialize(gson, Locale.GERMAN, 4));
+    }
+
+    @Test
+    public void testUpdateNotice() throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion("2.0.0")
+                .latencyMillis(500)
+                .start()) {
+            final AboutMenu menu = createBuilder()
+                    .updateChecker(UpdateChecker.builder()
+                            .currentVersion(Version.fromString("1.0.0"))
+                            .endpointUrl(server.getUrl(UpdateChecker.Endpoint.SPIGOT))
+                            .resource("stub")
+                            .build())
+                    .translations(Locale.GERMAN, Map.of("Update available", "Update verfügbar"))
+                    .build();
+            Assertions.assertTrue(menu.toPlainString().contains("Checking for updates…"));
+
+            awaitUpdateCheck(menu);
+            Assertions.assertTrue(menu.toPlainString().contains("Update available: v2.0.0"));
+            Assertions.assertTrue(toPlainText(menu.toComponent(Locale.GERMAN)).contains("Update verfügbar: v2.0.0"));
+        }
+    }
+
+    @Test
+    public void testUpdateCheckIsSharedBetweenBuilds() throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion("2.0.0")
+                .start()) {
+            final CompletableFuture<UpdateChecker.Completed> check = UpdateChecker.builder()
+                    .currentVersion(Version.fromString("1.0.0"))
+                    .endpointUrl(server.getUrl(UpdateChecker.Endpoint.SPIGOT))
+                    .resource("stub")
+                    .build()
+                    .check();
+            final AboutMenu.Builder builder = createBuilder().updateCheck(check);
+            final AboutMenu first = builder.build();
+            final AboutMenu second = builder.build();
+            awaitUpdateCheck(first);
+            awaitUpdateCheck(second);
+            Assertions.assertTrue(first.toPlainString().contains("Update available: v2.0.0"));
+            Assertions.assertTrue(second.toPlainString().contains("Update available: v2.0.0"));
+            Assertions.assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testFailedUpdateCheck() throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .errorRate(1)
+                .start()) {
+            final AboutMenu menu = createBuilder()
+                    .updateChecker(UpdateChecker.builder()
+                            .currentVersion(Version.fromString("1.0.0"))
+                            .endpointUrl(server.getUrl(UpdateChecker.Endpoint.SPIGOT))
+                            .resource("stub")
+                            .build())
+                    .build();
+            awaitUpdateCheck(menu);
+            Assertions.assertTrue(menu.toPlainString().contains("Unable to check for updates"));
+            Assertions.assertFalse(menu.toPlainString().contains("Up to date"));
+        }
+    }
+
+    private static void awaitUpdateCheck(@NotNull AboutMenu menu) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (menu.toPlainString().contains("Checking") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        final AboutMenu.Builder builder = createBuilder()
+                .credits("Contributors", AboutMenu.Credit.of("Contributor 1"), AboutMenu.Credit.of("Contributor 2"))
+                .creditsPerPage(1)
+                .translations(Locale.GERMAN, Map.of("Author", "Autor", "Page", "Seite"))
+                .translations(Locale.FRENCH, Map.of("Author", "Auteur", "Page", "Page"));
+        final AboutMenu menu = builder.build();
+        final Locale[] locales = {Locale.GERMAN, Locale.FRENCH, Locale.ENGLISH};
+
+        // Render each locale on a separate menu first, to compare the concurrently rendered menus against
+        final AboutMenu reference = builder.build();
+        final Map<Locale, List<Component>> expected = new HashMap<>();
+        for (Locale locale : locales) {
+            expected.put(locale, List.of(reference.toComponent(locale), reference.toComponent(locale, 2)));
+        }
+        final Component expectedDefault = reference.toComponent();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<List<Component>>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final Locale locale = locales[i % locales.length];
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return List.of(menu.toComponent(locale), menu.toComponent(locale, 2), menu.toComponent());
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < results.size(); i++) {
+                final List<Component> rendered = results.get(i).get(10, TimeUnit.SECONDS);
+                Assertions.assertEquals(expected.get(locales[i % locales.length]), rendered.subList(0, 2));
+                Assertions.assertEquals(expectedDefault, rendered.get(2));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @NotNull
+    private static String toPlainText(@NotNull Component component) {
+        final StringBuilder builder = new StringBuilder();
+        ComponentFlattener.basic().flatten(component, builder::append);
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.william278.desertwell.util.UpdateChecker;
+import net.william278.desertwell.util.Version;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Checks for updates through the shared cache from a separate JVM; see UpdateCheckerCacheTests
+public class SharedCacheProcess {
+
+    // Arguments: the stub endpoint URL, then the cache directory. Prints the latest version and whether the check
+    // succeeded
+    public static void main(String[] args) throws Exception {
+        final UpdateChecker.Completed completed = UpdateChecker.builder()
+                .currentVersion(Version.fromString("1.0.0"))
+                .endpointUrl(args[0])
+                .resource("stub")
+                .cacheDirectory(Path.of(args[1]))
+                .build()
+                .check().get(1, TimeUnit.MINUTES);
+        System.out.println(completed.getLatestVersion() + " " + completed.isSuccessful());
+    }
+
+}
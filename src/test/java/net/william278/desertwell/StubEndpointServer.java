@@ -0,0 +1,187 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.william278.desertwell.util.UpdateChecker;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local HTTP server imitating the response format of each UpdateChecker.Endpoint
+public class StubEndpointServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String latestVersion;
+    private final long latencyMillis;
+    private final double errorRate;
+    private final long slowBodyChunkDelayMillis;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private StubEndpointServer(@NotNull String latestVersion, long latencyMillis, double errorRate,
+                               long slowBodyChunkDelayMillis) throws IOException {
+        this.latestVersion = latestVersion;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.slowBodyChunkDelayMillis = slowBodyChunkDelayMillis;
+        this.executor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        for (UpdateChecker.Endpoint endpoint : UpdateChecker.Endpoint.values()) {
+            server.createContext("/" + endpoint.name().toLowerCase(), exchange -> handle(exchange, endpoint));
+        }
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the URL to pass to {@link UpdateChecker.Builder#endpointUrl(String)} for an endpoint
+     *
+     * @param endpoint The endpoint to imitate
+     * @return The stub endpoint URL
+     */
+    @NotNull
+    public String getUrl(@NotNull UpdateChecker.Endpoint endpoint) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+               + "/" + endpoint.name().toLowerCase() + "?id={id}";
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    private void handle(@NotNull HttpExchange exchange, @NotNull UpdateChecker.Endpoint endpoint) throws IOException {
+        requests.incrementAndGet();
+        try {
+            sleep(latencyMillis);
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            final byte[] body = getBody(endpoint).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                if (slowBodyChunkDelayMillis <= 0) {
+                    output.write(body);
+                    return;
+                }
+                for (byte b : body) {
+                    output.write(b);
+                    output.flush();
+                    sleep(slowBodyChunkDelayMillis);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @NotNull
+    private String getBody(@NotNull UpdateChecker.Endpoint endpoint) {
+        switch (endpoint) {
+            case MODRINTH:
+                return "[{\"version_type\":\"beta\",\"version_number\":\"" + latestVersion + "-beta\"},"
+                       + "{\"version_type\":\"release\",\"version_number\":\"" + latestVersion + "\"}]";
+            case GITHUB:
+                return "{\"tag_name\":\"" + latestVersion + "\"}";
+            default:
+                return latestVersion;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class Builder {
+        private String latestVersion = "2.0.0";
+        private long latencyMillis;
+        private double errorRate;
+        private long slowBodyChunkDelayMillis;
+
+        private Builder() {
+        }
+
+        @NotNull
+        public Builder latestVersion(@NotNull String latestVersion) {
+            this.latestVersion = latestVersion;
+            return this;
+        }
+
+        @NotNull
+        public Builder latencyMillis(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+            return this;
+        }
+
+        @NotNull
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        // Delay between each byte of the response body, to imitate a slow or degraded connection
+        @NotNull
+        public Builder slowBodyChunkDelayMillis(long slowBodyChunkDelayMillis) {
+            this.slowBodyChunkDelayMillis = slowBodyChunkDelayMillis;
+            return this;
+        }
+
+        @NotNull
+        public StubEndpointServer start() throws IOException {
+            return new StubEndpointServer(latestVersion, latencyMillis, errorRate, slowBodyChunkDelayMillis);
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.william278.desertwell.util.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Tests for the throwing functional interfaces and Exceptions utilities
+public class ThrowingTests {
+
+    private static final ThrowingFunction<String, Version> PARSE_RELEASE = version -> {
+        if (version.contains("SNAPSHOT")) {
+            throw new IOException("Not a release: " + version);
+        }
+        return Version.fromString(version);
+    };
+
+    @Test
+    public void testCheckedExceptionIsWrappedWithoutStackTrace() {
+        final WrappedException exception = Assertions.assertThrows(WrappedException.class,
+                () -> PARSE_RELEASE.apply("1.0.0-SNAPSHOT"));
+        Assertions.assertInstanceOf(IOException.class, exception.getCause());
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void testUncheckedExceptionIsNotWrapped() {
+        Assertions.assertThrows(NumberFormatException.class, () -> PARSE_RELEASE.apply("a.b.c"));
+    }
+
+    @Test
+    public void testSneakyThrow() {
+        Assertions.assertThrows(IOException.class, () -> PARSE_RELEASE.sneaky().apply("1.0.0-SNAPSHOT"));
+    }
+
+    @Test
+    public void testApplyAll() {
+        final List<Exceptions.Outcome<String, Version>> outcomes = Exceptions.applyAll(
+                List.of("1.0.0", "1.0.1-SNAPSHOT", "1.0.2", "1.0.1-SNAPSHOT"), PARSE_RELEASE);
+        Assertions.assertEquals(4, outcomes.size());
+        Assertions.assertEquals("1.0.2", outcomes.get(2).getElement());
+        Assertions.assertEquals(0, Version.fromString("1.0.2").compareTo(outcomes.get(2).getResult()));
+
+        // Duplicate elements each have their own outcome
+        for (int i : new int[]{1, 3}) {
+            Assertions.assertFalse(outcomes.get(i).isSuccessful());
+            Assertions.assertEquals("1.0.1-SNAPSHOT", outcomes.get(i).getElement());
+            Assertions.assertInstanceOf(IOException.class, outcomes.get(i).getFailure());
+        }
+    }
+
+    @Test
+    public void testAcceptAll() {
+        final List<Exceptions.Outcome<String, Void>> outcomes = Exceptions.acceptAll(
+                List.of("1.0.0", "1.0.1-SNAPSHOT"), PARSE_RELEASE::applyThrows);
+        Assertions.assertTrue(outcomes.get(0).isSuccessful());
+        Assertions.assertInstanceOf(IOException.class, outcomes.get(1).getFailure());
+    }
+
+    @Test
+    public void testInterruptIsRestored() {
+        final List<Exceptions.Outcome<String, Void>> outcomes = Exceptions.acceptAll(List.of("a", "b"), element -> {
+            throw new InterruptedException(element);
+        });
+        try {
+            Assertions.assertTrue(Thread.currentThread().isInterrupted());
+            Assertions.assertEquals(2, outcomes.size());
+            Assertions.assertInstanceOf(InterruptedException.class, outcomes.get(1).getFailure());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testErrorsAreRethrown() {
+        final List<String> accepted = new ArrayList<>();
+        Assertions.assertThrows(StackOverflowError.class, () -> Exceptions.acceptAll(List.of("a", "b"), element -> {
+            accepted.add(element);
+            throw new StackOverflowError();
+        }));
+        Assertions.assertEquals(List.of("a"), accepted);
+
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final CompletableFuture<Void> future = Exceptions.runAsync(() -> {
+            throw new StackOverflowError();
+        }, task -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+        });
+        Assertions.assertInstanceOf(StackOverflowError.class, thrown.get());
+        Assertions.assertInstanceOf(StackOverflowError.class,
+                Assertions.assertThrows(CompletionException.class, future::join).getCause());
+    }
+
+    @Test
+    public void testAsFutureIsNotDoubleWrapped() {
+        final CompletableFuture<Version> future = CompletableFuture.completedFuture("1.0.0-SNAPSHOT")
+                .thenCompose(PARSE_RELEASE.asFuture());
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, future::join);
+        Assertions.assertInstanceOf(IOException.class, exception.getCause());
+
+        final CompletableFuture<Void> async = Exceptions.runAsync(() -> {
+            throw new IOException("Failed");
+        }, Runnable::run);
+        Assertions.assertInstanceOf(IOException.class,
+                Assertions.assertThrows(CompletionException.class, async::join).getCause());
+    }
+
+}
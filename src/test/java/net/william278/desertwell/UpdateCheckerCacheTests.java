@@ -0,0 +1,223 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.william278.desertwell.util.UpdateChecker;
+import net.william278.desertwell.util.Version;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Tests for the shared update cache, run against a local stub endpoint server
+public class UpdateCheckerCacheTests {
+
+    private static final Version CURRENT_VERSION = Version.fromString("1.0.0");
+    private static final Version LATEST_VERSION = Version.fromString("2.0.0");
+
+    @Test
+    public void testResponseIsCached(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(0)) {
+            final UpdateChecker checker = createChecker(server, cacheDirectory, Duration.ofHours(1));
+            assertLatest(checker);
+            assertLatest(checker);
+            Assertions.assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testCacheExpires(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(0)) {
+            final UpdateChecker checker = createChecker(server, cacheDirectory, Duration.ofMillis(200));
+            assertLatest(checker);
+            Thread.sleep(300);
+            assertLatest(checker);
+            Assertions.assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testZeroDurationIsNeverCached(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(0)) {
+            final UpdateChecker checker = createChecker(server, cacheDirectory, Duration.ZERO);
+            assertLatest(checker);
+            assertLatest(checker);
+            Assertions.assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testCorruptFileIsRefetched(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(0)) {
+            final UpdateChecker checker = createChecker(server, cacheDirectory, Duration.ofHours(1));
+            assertLatest(checker);
+            for (Path file : listFiles(cacheDirectory)) {
+                final byte[] corrupt = Files.readAllBytes(file);
+                corrupt[corrupt.length - 1] ^= 0x7F;
+                Files.write(file, corrupt);
+            }
+            assertLatest(checker);
+            Assertions.assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testTruncatedFileIsRefetched(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(0)) {
+            final UpdateChecker checker = createChecker(server, cacheDirectory, Duration.ofHours(1));
+            assertLatest(checker);
+            for (Path file : listFiles(cacheDirectory)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(channel.size() - 2);
+                }
+            }
+            assertLatest(checker);
+            for (Path file : listFiles(cacheDirectory)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(6);
+                }
+            }
+            assertLatest(checker);
+            Assertions.assertEquals(3, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testUncreatableDirectoryFallsBack(@TempDir @NotNull Path directory) throws Exception {
+        final Path file = Files.writeString(directory.resolve("file"), "Not a directory");
+        try (StubEndpointServer server = startServer(0)) {
+            final UpdateChecker checker = createChecker(server, file.resolve("cache"), Duration.ofHours(1));
+            assertLatest(checker);
+            assertLatest(checker);
+            Assertions.assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testFailureIsCached(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(1)) {
+            final UpdateChecker checker = createChecker(server, cacheDirectory, Duration.ofHours(1));
+            for (int i = 0; i < 2; i++) {
+                final Version latest = checker.check().get(10, TimeUnit.SECONDS).getLatestVersion();
+                Assertions.assertEquals(0, latest.compareTo(CURRENT_VERSION));
+            }
+            Assertions.assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testDistinctResourcesAreCachedSeparately(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = startServer(0)) {
+            for (String resource : List.of("a/b_c", "a_b/c")) {
+                assertLatest(UpdateChecker.builder()
+                        .currentVersion(CURRENT_VERSION)
+                        .endpoint(UpdateChecker.Endpoint.GITHUB)
+                        .endpointUrl(server.getUrl(UpdateChecker.Endpoint.GITHUB))
+                        .resource(resource)
+                        .cacheDirectory(cacheDirectory)
+                        .build());
+            }
+            Assertions.assertEquals(2, server.getRequestCount());
+            Assertions.assertEquals(2, listFiles(cacheDirectory).size());
+        }
+    }
+
+    @Test
+    public void testDistinctEndpointUrlsAreCachedSeparately(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer first = startServer(0); StubEndpointServer second = startServer(0)) {
+            assertLatest(createChecker(first, cacheDirectory, Duration.ofHours(1)));
+            assertLatest(createChecker(second, cacheDirectory, Duration.ofHours(1)));
+            Assertions.assertEquals(1, first.getRequestCount());
+            Assertions.assertEquals(1, second.getRequestCount());
+        }
+    }
+
+    // Each process takes its own file locks, unlike threads in one JVM, which are serialized before locking. The
+    // endpoint is slower than the wait before falling back to an expired version, so the others must wait it out
+    @Test
+    public void testProcessesShareOneFetch(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion(LATEST_VERSION.toString())
+                .latencyMillis(7_000)
+                .start()) {
+            final List<Process> processes = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                processes.add(new ProcessBuilder(
+                        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-cp", System.getProperty("java.class.path"), SharedCacheProcess.class.getName(),
+                        server.getUrl(UpdateChecker.Endpoint.SPIGOT), cacheDirectory.toString())
+                        .redirectErrorStream(true)
+                        .start());
+            }
+            for (Process process : processes) {
+                Assertions.assertTrue(process.waitFor(1, TimeUnit.MINUTES));
+                final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                Assertions.assertEquals(LATEST_VERSION + " true", output.trim());
+            }
+            Assertions.assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    @NotNull
+    private static StubEndpointServer startServer(double errorRate) throws IOException {
+        return StubEndpointServer.builder()
+                .latestVersion(LATEST_VERSION.toString())
+                .errorRate(errorRate)
+                .start();
+    }
+
+    @NotNull
+    private static UpdateChecker createChecker(@NotNull StubEndpointServer server, @NotNull Path cacheDirectory,
+                                               @NotNull Duration cacheDuration) {
+        return UpdateChecker.builder()
+                .currentVersion(CURRENT_VERSION)
+                .endpointUrl(server.getUrl(UpdateChecker.Endpoint.SPIGOT))
+                .resource("stub")
+                .cacheDirectory(cacheDirectory)
+                .cacheDuration(cacheDuration)
+                .build();
+    }
+
+    private static void assertLatest(@NotNull UpdateChecker checker) throws Exception {
+        final Version latest = checker.check().get(10, TimeUnit.SECONDS).getLatestVersion();
+        Assertions.assertEquals(0, latest.compareTo(LATEST_VERSION));
+    }
+
+    @NotNull
+    private static List<Path> listFiles(@NotNull Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.william278.desertwell.util.UpdateChecker;
+import net.william278.desertwell.util.Version;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Load tests for the UpdateChecker against a local stub endpoint server; run with the loadTest task
+@Tag("load")
+public class UpdateCheckerLoadTests {
+
+    private static final int CHECKS = 2000;
+    private static final Version CURRENT_VERSION = Version.fromString("1.0.0");
+    private static final Version LATEST_VERSION = Version.fromString("2.0.0");
+
+    @ParameterizedTest
+    @EnumSource(UpdateChecker.Endpoint.class)
+    public void testHealthyEndpoint(@NotNull UpdateChecker.Endpoint endpoint) throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion(LATEST_VERSION.toString())
+                .latencyMillis(5)
+                .start()) {
+            final int fallbacks = run(server, endpoint, "healthy");
+            Assertions.assertEquals(0, fallbacks);
+            Assertions.assertEquals(CHECKS, server.getRequestCount());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(UpdateChecker.Endpoint.class)
+    public void testErroringEndpoint(@NotNull UpdateChecker.Endpoint endpoint) throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion(LATEST_VERSION.toString())
+                .latencyMillis(5)
+                .errorRate(0.25)
+                .start()) {
+            final int fallbacks = run(server, endpoint, "25% errors");
+            Assertions.assertTrue(fallbacks > 0 && fallbacks < CHECKS);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = UpdateChecker.Endpoint.class, names = {"SPIGOT", "GITHUB"})
+    public void testSlowBodyEndpoint(@NotNull UpdateChecker.Endpoint endpoint) throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion(LATEST_VERSION.toString())
+                .slowBodyChunkDelayMillis(1)
+                .start()) {
+            final int fallbacks = run(server, endpoint, "slow body");
+            Assertions.assertEquals(0, fallbacks);
+        }
+    }
+
+    @Test
+    public void testSharedCache(@TempDir @NotNull Path cacheDirectory) throws Exception {
+        try (StubEndpointServer server = StubEndpointServer.builder()
+                .latestVersion(LATEST_VERSION.toString())
+                .latencyMillis(5)
+                .start()) {
+            final UpdateChecker checker = UpdateChecker.builder()
+                    .currentVersion(CURRENT_VERSION)
+                    .endpoint(UpdateChecker.Endpoint.MODRINTH)
+                    .endpointUrl(server.getUrl(UpdateChecker.Endpoint.MODRINTH))
+                    .resource("stub")
+                    .cacheDirectory(cacheDirectory)
+                    .build();
+            final int fallbacks = run(checker, "shared cache");
+            Assertions.assertEquals(0, fallbacks);
+            Assertions.assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    private int run(@NotNull StubEndpointServer server, @NotNull UpdateChecker.Endpoint endpoint,
+                    @NotNull String scenario) throws Exception {
+        return run(UpdateChecker.builder()
+                .currentVersion(CURRENT_VERSION)
+                .endpoint(endpoint)
+                .endpointUrl(server.getUrl(endpoint))
+                .resource("stub")
+                .build(), endpoint + ", " + scenario);
+    }
+
+    // Returns the number of checks which fell back to the current version
+    private int run(@NotNull UpdateChecker checker, @NotNull String scenario) throws Exception {
+
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        final int startThreads = threads.getThreadCount();
+
+        // Fire every check at once, recording the latency of each from invocation to completion
+        final long[] latencies = new long[CHECKS];
+        final List<CompletableFuture<UpdateChecker.Completed>> futures = new ArrayList<>(CHECKS);
+        final long start = System.nanoTime();
+        for (int i = 0; i < CHECKS; i++) {
+            final int index = i;
+            final long invoked = System.nanoTime();
+            futures.add(checker.check().whenComplete((completed, throwable) ->
+                    latencies[index] = System.nanoTime() - invoked));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.MINUTES);
+        final long elapsed = System.nanoTime() - start;
+
+        int fallbacks = 0;
+        for (CompletableFuture<UpdateChecker.Completed> future : futures) {
+            final Version latest = future.join().getLatestVersion();
+            if (latest.compareTo(CURRENT_VERSION) == 0) {
+                fallbacks++;
+            } else {
+                Assertions.assertEquals(0, latest.compareTo(LATEST_VERSION));
+            }
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] %d checks in %d ms: %.1f checks/s, p50 %.2f ms, p99 %.2f ms, "
+                          + "%d fallbacks, threads %d -> peak %d%n",
+                scenario, CHECKS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                CHECKS / (elapsed / 1_000_000_000d), percentile(latencies, 0.50), percentile(latencies, 0.99),
+                fallbacks, startThreads, threads.getPeakThreadCount());
+        return fallbacks;
+    }
+
+    private static double percentile(long @NotNull [] sorted, double percentile) {
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000d;
+    }
+
+}
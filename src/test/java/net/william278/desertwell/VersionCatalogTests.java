@@ -0,0 +1,114 @@
+/*
+ * This file is part of DesertWell, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.desertwell;
+
+import net.william278.desertwell.util.Version;
+import net.william278.desertwell.util.VersionCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+// Tests for the VersionCatalog class
+public class VersionCatalogTests {
+
+    private static final VersionCatalog<String> CATALOG = VersionCatalog.<String>create().addAll(List.of(
+            Version.fromString("1.19.4"),
+            Version.fromString("1.20"),
+            Version.fromString("1.20.1"),
+            Version.fromString("1.20.4"),
+            Version.fromString("1.21.0"),
+            Version.fromString("2.0.0"),
+            Version.fromString("2.0.0-SNAPSHOT")
+    ), version -> "https://example.com/download/" + version);
+
+    private static String versionOf(Map.Entry<Version, String> release) {
+        return release.getKey().toString();
+    }
+
+    @Test
+    public void testLatest() {
+        Assertions.assertEquals("2.0.0", CATALOG.getLatest().map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertEquals("1.21.0", CATALOG.getLatest(1).map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertTrue(CATALOG.getLatest(3).isEmpty());
+    }
+
+    @Test
+    public void testLatestInMinor() {
+        Assertions.assertEquals("1.20.4", CATALOG.getLatest(1, 20).map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertEquals("1.19.4", CATALOG.getLatest(1, 19).map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertTrue(CATALOG.getLatest(1, 18).isEmpty());
+    }
+
+    @Test
+    public void testFloorAndCeiling() {
+        Assertions.assertEquals("1.20.1",
+                CATALOG.getFloor(Version.fromString("1.20.3")).map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertEquals("1.20.4",
+                CATALOG.getCeiling(Version.fromString("1.20.2")).map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertTrue(CATALOG.getFloor(Version.fromString("1.0.0")).isEmpty());
+        Assertions.assertEquals("https://example.com/download/1.20.1",
+                CATALOG.get(Version.fromString("1.20.1")).orElseThrow());
+    }
+
+    @Test
+    public void testReleaseAndSnapshotOfSameVersion() {
+        final Version release = Version.fromString("3.0.0");
+        final Version snapshot = Version.fromString("3.0.0-SNAPSHOT");
+        for (List<Version> order : List.of(List.of(release, snapshot), List.of(snapshot, release))) {
+            final VersionCatalog<String> catalog = VersionCatalog.create();
+            order.forEach(version -> catalog.put(version, version.toString()));
+
+            Assertions.assertEquals(2, catalog.size());
+            Assertions.assertEquals("3.0.0", catalog.getLatest().map(VersionCatalogTests::versionOf).orElseThrow());
+            Assertions.assertEquals("3.0.0", catalog.getLatest(3).map(VersionCatalogTests::versionOf).orElseThrow());
+            Assertions.assertEquals("3.0.0-SNAPSHOT", catalog.get(snapshot).orElseThrow());
+        }
+
+        // A pre-release alone is still found by major version queries
+        final VersionCatalog<String> snapshots = VersionCatalog.<String>create().put(snapshot, "snapshot");
+        Assertions.assertEquals("3.0.0-SNAPSHOT", snapshots.getLatest(3, 0)
+                .map(VersionCatalogTests::versionOf).orElseThrow());
+    }
+
+    @Test
+    public void testFourPartVersionsFollowTheRelease() {
+        final VersionCatalog<String> catalog = VersionCatalog.<String>create().addAll(List.of(
+                Version.fromString("1.20.4.10"),
+                Version.fromString("1.20.4.2"),
+                Version.fromString("1.20.4"),
+                Version.fromString("1.20.4-SNAPSHOT")
+        ), Version::toString);
+        final String latest = Version.fromString("1.20.4.10").toString();
+        Assertions.assertEquals(latest, catalog.getLatest().map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertEquals(latest, catalog.getLatest(1, 20).map(VersionCatalogTests::versionOf).orElseThrow());
+        Assertions.assertEquals(List.of("1.20.4-SNAPSHOT", "1.20.4", Version.fromString("1.20.4.2").toString(), latest),
+                List.copyOf(catalog.asMap().values()));
+    }
+
+    @Test
+    public void testBulkInsertion() {
+        final VersionCatalog<String> copy = VersionCatalog.of(CATALOG.asMap());
+        Assertions.assertEquals(CATALOG.size(), copy.size());
+        Assertions.assertEquals(CATALOG.asMap(), copy.asMap());
+    }
+
+}